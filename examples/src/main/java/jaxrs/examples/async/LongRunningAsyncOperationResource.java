@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,7 +11,6 @@
 package jaxrs.examples.async;
 
 import java.util.Random;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -22,25 +21,27 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.RunOnVirtualThread;
 import jakarta.ws.rs.container.Suspended;
 
 /**
  * Long-running asynchronous processing examples.
+ * <p>
+ * All resource methods run on virtual threads, so they simply block while the long-running operation executes instead
+ * of handing it over to an executor. An {@link AsyncResponse} is only needed to control the suspend timeout.
+ * </p>
  *
  * @author Marek Potociar
  */
 @Path("/async/longRunning")
 @Produces("text/plain")
+@RunOnVirtualThread
 public class LongRunningAsyncOperationResource {
 
     @GET
     @Path("sync")
     public String basicSyncExample() {
-        try {
-            Thread.sleep(10000);
-        } catch (InterruptedException ex) {
-            Logger.getLogger(LongRunningAsyncOperationResource.class.getName()).log(Level.SEVERE, "Response processing interrupted", ex);
-        }
+        executeLongRunningOperation();
         return "Hello async world!";
     }
 
@@ -49,33 +50,18 @@ public class LongRunningAsyncOperationResource {
     public void asyncExample(
             @Suspended final AsyncResponse ar) {
         ar.setTimeout(15, SECONDS);
-        Executors.newSingleThreadExecutor().submit(() -> {
-            try {
-                Thread.sleep(10000);
-            } catch (InterruptedException ex) {
-                Logger.getLogger(LongRunningAsyncOperationResource.class.getName()).log(Level.SEVERE, "Response processing interrupted", ex);
-            }
-            ar.resume("Hello async world!");
-        });
+        executeLongRunningOperation();
+        ar.resume("Hello async world!");
     }
 
     @GET
     @Path("asyncSelective")
-    public void selectiveSuspend(@QueryParam("query") final String query, @Suspended final AsyncResponse ar) {
+    public String selectiveSuspend(@QueryParam("query") final String query) {
         if (!isComplex(query)) {
-            // process simple queries synchronously
-            ar.resume("Simple result for " + query);
-        } else {
-            Executors.newSingleThreadExecutor().submit(() -> {
-                try {
-                    Thread.sleep(10000);
-                } catch (InterruptedException ex) {
-                    Logger.getLogger(LongRunningAsyncOperationResource.class.getName())
-                            .log(Level.SEVERE, "Response processing interrupted", ex);
-                }
-                ar.resume("Complex result for " + query);
-            });
+            return "Simple result for " + query;
         }
+        executeLongRunningOperation();
+        return "Complex result for " + query;
     }
 
     private boolean isComplex(String query) {
@@ -92,31 +78,27 @@ public class LongRunningAsyncOperationResource {
             ar.setTimeout(15, SECONDS);
         }
 
-        Executors.newSingleThreadExecutor().submit(() -> {
-            try {
-                Thread.sleep(10000);
-            } catch (InterruptedException ex) {
-                Logger.getLogger(LongRunningAsyncOperationResource.class.getName())
-                        .log(Level.SEVERE, "Response processing interrupted", ex);
-            }
-            ar.resume("Hello async world!");
-        });
+        executeLongRunningOperation();
+        ar.resume("Hello async world!");
     }
 
     @GET
     @Path("asyncHandleUsage")
     public void suspendHandleUsageExample(@Suspended final AsyncResponse ar) {
         ar.setTimeout(15, SECONDS);
-        Executors.newSingleThreadExecutor().submit(() -> {
-            try {
-                Thread.sleep(10000);
-            } catch (InterruptedException ex) {
-                Logger.getLogger(LongRunningAsyncOperationResource.class.getName())
-                        .log(Level.SEVERE, "Response processing interrupted", ex);
-            }
-            ar.resume("Hello async world!");
-        });
         ar.setTimeoutHandler(r -> Logger.getLogger(LongRunningAsyncOperationResource.class.getName())
                 .log(Level.INFO, "Context resumed with a response!"));
+        executeLongRunningOperation();
+        ar.resume("Hello async world!");
+    }
+
+    private static void executeLongRunningOperation() {
+        try {
+            Thread.sleep(10000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            Logger.getLogger(LongRunningAsyncOperationResource.class.getName())
+                    .log(Level.SEVERE, "Response processing interrupted", ex);
+        }
     }
 }
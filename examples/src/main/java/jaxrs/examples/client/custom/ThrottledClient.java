@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,16 +11,21 @@
 package jaxrs.examples.client.custom;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
 
+import jakarta.ws.rs.client.BatchPolicy;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 
 import javax.net.ssl.HostnameVerifier;
@@ -74,6 +79,21 @@ public final class ThrottledClient implements Client {
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    @Override
+    public CompletionStage<List<Response>> invokeAll(Collection<? extends Invocation> invocations, BatchPolicy policy) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public CompletionStage<Void> warmup(int connections, URI... targets) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public int getInFlightCount() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
     @Override
     public ThrottledClient property(String name, Object value) {
         throw new UnsupportedOperationException("Not supported yet.");
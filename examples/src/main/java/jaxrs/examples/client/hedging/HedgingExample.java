@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.client.hedging;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+
+/**
+ * Shows how to register the {@link HedgingFeature} on a client.
+ */
+public class HedgingExample {
+
+    public void hedgingExample() {
+        try (Client transport = ClientBuilder.newBuilder().connectTimeout(1, TimeUnit.SECONDS).build();
+                Client client = ClientBuilder.newClient()) {
+            client.register(new HedgingFeature(transport, 0.99, 1, new RetryBudget(0.05, 20)));
+
+            WebTarget replicas = client.target("http://example.com/replicated/items/{id}");
+
+            String item = replicas.resolveTemplate("id", 42).request("application/json").get(String.class);
+
+            System.out.println(item);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.client.hedging;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.core.FeatureContext;
+
+/**
+ * Example feature hedging idempotent requests and retrying connect failures.
+ * <p>
+ * Hedged requests are sent once the response has not arrived within the configured percentile of recent latencies.
+ * All hedged requests and retries draw from a single {@link RetryBudget}, so that they cannot amplify an outage.
+ * </p>
+ * <p>
+ * Requests are sent through a separate transport client provided by the application, which configures it as needed,
+ * e.g. with the same timeouts and SSL context as the client the feature is registered with, and closes it once that
+ * client is no longer used. See {@link HedgingFilter} on the blocking behaviour of the feature.
+ * </p>
+ */
+public class HedgingFeature implements Feature {
+
+    private final Client transport;
+    private final double percentile;
+    private final int maxRetries;
+    private final RetryBudget budget;
+
+    /**
+     * Create a feature hedging after the 95th latency percentile, retrying connect failures twice and allowing one
+     * additional request per ten requests.
+     *
+     * @param transport client used to send the actual requests, must not have this feature registered.
+     */
+    public HedgingFeature(Client transport) {
+        this(transport, 0.95, 2, new RetryBudget(0.1, 10));
+    }
+
+    /**
+     * Create a new feature.
+     *
+     * @param transport client used to send the actual requests, must not have this feature registered.
+     * @param percentile latency percentile after which a hedged request is sent.
+     * @param maxRetries maximum number of retries of a request failing to connect.
+     * @param budget budget shared by all retries and hedged requests.
+     */
+    public HedgingFeature(Client transport, double percentile, int maxRetries, RetryBudget budget) {
+        this.transport = transport;
+        this.percentile = percentile;
+        this.maxRetries = maxRetries;
+        this.budget = budget;
+    }
+
+    @Override
+    public boolean configure(FeatureContext context) {
+        if (context.getConfiguration().getRuntimeType() != RuntimeType.CLIENT) {
+            return false;
+        }
+        final LatencyTracker latencies = new LatencyTracker(1024, percentile, TimeUnit.MILLISECONDS.toNanos(100));
+        context.register(new HedgingFilter(transport, latencies, budget, maxRetries));
+        return true;
+    }
+}
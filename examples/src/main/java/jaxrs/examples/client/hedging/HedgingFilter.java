@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.client.hedging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.ConnectException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.InvocationCallback;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Client request filter sending the request through a separate transport client, hedging idempotent requests and
+ * retrying connect failures.
+ * <p>
+ * If an idempotent request has not been answered within the tracked latency percentile, a duplicate request is sent and
+ * whichever response arrives first is used; the other one is cancelled. Requests failing to connect are retried, since
+ * they never reached the server. Both hedged requests and retries are subject to the shared {@link RetryBudget}. The
+ * winning response is buffered and returned by {@link ClientRequestContext#abortWith(Response) aborting} the original
+ * request.
+ * </p>
+ * <p>
+ * The filter runs after all other request filters, so that headers added by them are sent with every attempt.
+ * Requests whose entity can be read only once, i.e. an {@link InputStream}, {@link Reader}, {@link ReadableByteChannel}
+ * or {@link Flow.Publisher} entity, are sent once, without hedging or retries.
+ * </p>
+ * <p>
+ * While the attempts are sent asynchronously, the filter itself blocks the thread invoking the request until the
+ * winning response has arrived, as a request filter can only complete the request by returning. Requests invoked
+ * asynchronously, e.g. using {@link jakarta.ws.rs.client.Invocation.Builder#rx() rx()}, therefore occupy the thread
+ * running their filters for their whole duration, so the executor providing that thread should be sized accordingly,
+ * or use virtual threads.
+ * </p>
+ */
+@Priority(Integer.MAX_VALUE)
+public class HedgingFilter implements ClientRequestFilter {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+
+    private final Client transport;
+    private final LatencyTracker latencies;
+    private final RetryBudget budget;
+    private final int maxRetries;
+
+    /**
+     * Create a new filter.
+     *
+     * @param transport client used to send the actual requests, must not have this filter registered.
+     * @param latencies tracker providing the delay after which a hedged request is sent.
+     * @param budget budget shared by all retries and hedged requests.
+     * @param maxRetries maximum number of retries of a request failing to connect.
+     */
+    public HedgingFilter(Client transport, LatencyTracker latencies, RetryBudget budget, int maxRetries) {
+        this.transport = transport;
+        this.latencies = latencies;
+        this.budget = budget;
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public void filter(ClientRequestContext request) throws IOException {
+        budget.deposit();
+
+        final Invocation invocation = prepare(request);
+        final CompletableFuture<Response> result = new CompletableFuture<>();
+        final AtomicInteger pending = new AtomicInteger(1);
+        final boolean repeatable = isRepeatable(request);
+        final CompletableFuture<Response> primary = send(invocation, repeatable ? maxRetries : 0);
+        race(primary, result, pending);
+
+        if (repeatable && IDEMPOTENT_METHODS.contains(request.getMethod())) {
+            final long delay = latencies.percentileNanos();
+            CompletableFuture.runAsync(() -> {
+                if (!result.isDone() && budget.tryWithdraw()) {
+                    pending.incrementAndGet();
+                    final CompletableFuture<Response> hedge = send(invocation, 0);
+                    race(hedge, result, pending);
+                    result.whenComplete((response, failure) -> hedge.cancel(true));
+                }
+            }, CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS));
+        }
+        result.whenComplete((response, failure) -> primary.cancel(true));
+
+        try {
+            final Response response = result.get();
+            response.bufferEntity();
+            request.abortWith(response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof ProcessingException
+                    ? (ProcessingException) e.getCause()
+                    : new ProcessingException(e.getCause());
+        }
+    }
+
+    private Invocation prepare(ClientRequestContext request) {
+        final Invocation.Builder builder = transport.target(request.getUri()).request();
+        request.getStringHeaders().forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+        return request.hasEntity()
+                ? builder.build(request.getMethod(), Entity.entity(request.getEntity(), request.getMediaType(),
+                        request.getEntityAnnotations()))
+                : builder.build(request.getMethod());
+    }
+
+    private CompletableFuture<Response> send(Invocation invocation, int retries) {
+        final CompletableFuture<Response> attempt = new CompletableFuture<>();
+        submit(invocation, retries, attempt);
+        return attempt;
+    }
+
+    private void submit(Invocation invocation, int retries, CompletableFuture<Response> attempt) {
+        final long start = System.nanoTime();
+        final Future<Response> future = invocation.submit(new InvocationCallback<Response>() {
+
+            @Override
+            public void completed(Response response) {
+                latencies.record(System.nanoTime() - start);
+                if (!attempt.complete(response)) {
+                    response.close();
+                }
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                if (retries > 0 && isConnectFailure(throwable) && !attempt.isDone() && budget.tryWithdraw()) {
+                    submit(invocation, retries - 1, attempt);
+                } else {
+                    attempt.completeExceptionally(throwable);
+                }
+            }
+        });
+        attempt.whenComplete((response, failure) -> {
+            if (attempt.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+    }
+
+    private static boolean isRepeatable(ClientRequestContext request) {
+        final Object entity = request.getEntity();
+        return !(entity instanceof InputStream || entity instanceof Reader || entity instanceof ReadableByteChannel
+                || entity instanceof Flow.Publisher);
+    }
+
+    private static boolean isConnectFailure(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void race(CompletableFuture<Response> attempt, CompletableFuture<Response> result, AtomicInteger pending) {
+        attempt.whenComplete((response, failure) -> {
+            if (failure == null) {
+                if (!result.complete(response)) {
+                    response.close();
+                }
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(failure);
+            }
+        });
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.client.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps a window of the most recent response latencies and computes a latency percentile from it.
+ * <p>
+ * The percentile is recomputed only once per window to keep the cost per request low.
+ * </p>
+ */
+public class LatencyTracker {
+
+    private final AtomicLongArray samples;
+    private final AtomicInteger count = new AtomicInteger();
+    private final double percentile;
+    private volatile long cachedNanos;
+
+    /**
+     * Create a new tracker.
+     *
+     * @param window number of recent samples to keep.
+     * @param percentile percentile to compute, between {@code 0} and {@code 1}.
+     * @param defaultNanos latency reported until the first window of samples has been collected.
+     */
+    public LatencyTracker(int window, double percentile, long defaultNanos) {
+        if (window < 1 || percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("Invalid latency tracker settings.");
+        }
+        this.samples = new AtomicLongArray(window);
+        this.percentile = percentile;
+        this.cachedNanos = defaultNanos;
+    }
+
+    /**
+     * Record the latency of a completed request.
+     *
+     * @param nanos request latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        int n = count.getAndIncrement() & Integer.MAX_VALUE;
+        samples.set(n % samples.length(), nanos);
+        if ((n + 1) % samples.length() == 0) {
+            cachedNanos = compute();
+        }
+    }
+
+    /**
+     * Get the latency percentile of the most recent window of samples.
+     *
+     * @return latency percentile in nanoseconds.
+     */
+    public long percentileNanos() {
+        return cachedNanos;
+    }
+
+    private long compute() {
+        long[] sorted = new long[samples.length()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.client.hedging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket limiting the number of retries and hedged requests relative to the number of original requests.
+ * <p>
+ * Every original request deposits a fraction of a token, every retry or hedged request withdraws a whole token. Once
+ * the bucket is empty, no further retries are sent, so retries cannot amplify an outage of the backend.
+ * </p>
+ */
+public class RetryBudget {
+
+    private static final long MILLI_TOKENS = 1000L;
+
+    private final AtomicLong balance;
+    private final long deposit;
+    private final long capacity;
+
+    /**
+     * Create a new budget.
+     *
+     * @param ratio fraction of a token deposited by each original request, e.g. {@code 0.1} allows one retry per ten
+     * requests.
+     * @param capacity maximum number of tokens the budget can accumulate, the budget starts full.
+     */
+    public RetryBudget(double ratio, int capacity) {
+        if (ratio < 0 || capacity < 0) {
+            throw new IllegalArgumentException("Negative retry budget.");
+        }
+        this.deposit = Math.round(ratio * MILLI_TOKENS);
+        this.capacity = capacity * MILLI_TOKENS;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    /**
+     * Record an original request.
+     */
+    public void deposit() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    /**
+     * Try to withdraw a token for a retry or a hedged request.
+     *
+     * @return {@code true} if the retry may be sent, {@code false} if the budget is exhausted.
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < MILLI_TOKENS) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - MILLI_TOKENS));
+        return true;
+    }
+}
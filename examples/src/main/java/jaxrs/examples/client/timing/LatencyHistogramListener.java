@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.client.timing;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import jakarta.ws.rs.client.ClientInvocationListener;
+import jakarta.ws.rs.client.ClientRequestContext;
+
+/**
+ * Invocation listener collecting histograms of the time to first byte and of the total time of invocations.
+ * <p>
+ * Buckets are powers of two of microseconds, so bucket {@code i} counts invocations that took between
+ * {@code 2^(i-1)} and {@code 2^i} microseconds. Registering a separate instance on each {@link jakarta.ws.rs.client.WebTarget}
+ * yields histograms per target.
+ * </p>
+ */
+public class LatencyHistogramListener implements ClientInvocationListener {
+
+    private static final int BUCKETS = 32;
+
+    private static final String START_PROPERTY = LatencyHistogramListener.class.getName() + ".start";
+
+    private final AtomicLongArray timeToFirstByte = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray total = new AtomicLongArray(BUCKETS);
+
+    @Override
+    public void onPhase(ClientRequestContext requestContext, Phase phase, long nanoTime) {
+        switch (phase) {
+            case STARTED:
+                requestContext.setProperty(START_PROPERTY, nanoTime);
+                break;
+            case RESPONSE_STARTED:
+                record(timeToFirstByte, requestContext, nanoTime);
+                break;
+            case RESPONSE_FINISHED:
+                record(total, requestContext, nanoTime);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Get the histogram of the time to first byte.
+     *
+     * @return invocation counts per bucket.
+     */
+    public long[] getTimeToFirstByte() {
+        return snapshot(timeToFirstByte);
+    }
+
+    /**
+     * Get the histogram of the total invocation time.
+     *
+     * @return invocation counts per bucket.
+     */
+    public long[] getTotal() {
+        return snapshot(total);
+    }
+
+    private static void record(AtomicLongArray histogram, ClientRequestContext requestContext, long nanoTime) {
+        final Object start = requestContext.getProperty(START_PROPERTY);
+        if (start instanceof Long) {
+            final long micros = Math.max(1L, (nanoTime - (Long) start) / 1000L);
+            histogram.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros)));
+        }
+    }
+
+    private static long[] snapshot(AtomicLongArray histogram) {
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram.get(i);
+        }
+        return counts;
+    }
+}
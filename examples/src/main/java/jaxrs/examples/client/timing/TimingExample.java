@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.client.timing;
+
+import java.util.Arrays;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+
+/**
+ * Shows how to collect latency histograms per {@link WebTarget}.
+ */
+public class TimingExample {
+
+    public void timingExample() {
+        Client client = ClientBuilder.newClient();
+
+        LatencyHistogramListener usersLatency = new LatencyHistogramListener();
+        WebTarget users = client.target("http://example.com/users").register(usersLatency);
+
+        LatencyHistogramListener ordersLatency = new LatencyHistogramListener();
+        WebTarget orders = client.target("http://example.com/orders").register(ordersLatency);
+
+        users.request("application/json").get(String.class);
+        orders.request("application/json").get(String.class);
+
+        System.out.println(Arrays.toString(usersLatency.getTimeToFirstByte()));
+        System.out.println(Arrays.toString(ordersLatency.getTotal()));
+    }
+}
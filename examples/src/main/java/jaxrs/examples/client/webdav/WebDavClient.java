@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,12 +11,17 @@
 package jaxrs.examples.client.webdav;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
+import jakarta.ws.rs.client.BatchPolicy;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 
 import javax.net.ssl.HostnameVerifier;
@@ -59,6 +64,21 @@ public class WebDavClient implements Client {
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    @Override
+    public CompletionStage<List<Response>> invokeAll(Collection<? extends Invocation> invocations, BatchPolicy policy) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public CompletionStage<Void> warmup(int connections, URI... targets) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public int getInFlightCount() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
     @Override
     public WebDavClient property(String name, Object value) {
         throw new UnsupportedOperationException("Not supported yet.");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,11 +11,13 @@
 package jaxrs.examples.client.webdav;
 
 import java.util.Locale;
+import java.util.concurrent.Executor;
 
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.CompletionStageRxInvoker;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.PreparedInvocation;
 import jakarta.ws.rs.client.RxInvoker;
 import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.Cookie;
@@ -260,9 +262,19 @@ public class WebDavTargetedBuilder implements Invocation.Builder, WebDavSyncInvo
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    @Override
+    public CompletionStageRxInvoker rx(Executor executor) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
     @Override
     public <T extends RxInvoker> T rx(Class<T> clazz) {
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    @Override
+    public PreparedInvocation prepare(String method) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
 }
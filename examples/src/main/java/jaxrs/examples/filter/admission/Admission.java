@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+
+package jaxrs.examples.filter.admission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the {@link Criticality} of the requests of a resource method, or of all resource methods of a resource
+ * class. Resource methods without this annotation are of {@link Criticality#NORMAL normal} criticality.
+ *
+ * <pre>
+ * &#64;GET
+ * &#64;Path("health")
+ * &#64;Admission(Criticality.CRITICAL)
+ * public String health() {
+ *     return "UP";
+ * }
+ * </pre>
+ */
+@Documented
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Admission {
+
+    /**
+     * Criticality of the requests.
+     *
+     * @return criticality of the requests.
+     */
+    Criticality value() default Criticality.NORMAL;
+}
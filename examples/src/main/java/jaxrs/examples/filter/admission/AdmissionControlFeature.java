@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+
+package jaxrs.examples.filter.admission;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Example dynamic feature registering an {@link AdmissionControlFilter admission controller} for every resource method,
+ * so that overload of one resource method does not cause requests to other resource methods to be shed.
+ * <p>
+ * The feature is used along with the {@link ArrivalTimeFilter}:
+ * </p>
+ *
+ * <pre>
+ * public Set&lt;Object&gt; getSingletons() {
+ *     return Set.of(new ArrivalTimeFilter(), new AdmissionControlFeature(Duration.ofMillis(5), Duration.ofMillis(100), 256));
+ * }
+ * </pre>
+ */
+@Provider
+public class AdmissionControlFeature implements DynamicFeature {
+
+    /**
+     * Default target queueing delay.
+     */
+    public static final Duration DEFAULT_TARGET = Duration.ofMillis(5);
+
+    /**
+     * Default interval.
+     */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMillis(100);
+
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final int maxInFlight;
+
+    /**
+     * Create a feature using the {@link #DEFAULT_TARGET default target delay} and {@link #DEFAULT_INTERVAL interval},
+     * not capping the number of requests processed at the same time.
+     */
+    public AdmissionControlFeature() {
+        this(DEFAULT_TARGET, DEFAULT_INTERVAL, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create a new feature.
+     *
+     * @param target queueing delay not to be exceeded by all requests of an interval.
+     * @param interval interval in which the queueing delay is tracked, typically the order of a request round-trip time.
+     * @param maxInFlight maximum number of requests processed by a resource method at the same time.
+     * @throws IllegalArgumentException if the target or the interval is not positive, the target exceeds the interval or
+     * the maximum number of requests is not positive.
+     */
+    public AdmissionControlFeature(final Duration target, final Duration interval, final int maxInFlight) {
+        Objects.requireNonNull(target, "target");
+        Objects.requireNonNull(interval, "interval");
+        if (target.isNegative() || target.isZero() || target.compareTo(interval) > 0) {
+            throw new IllegalArgumentException("Target delay must be positive and must not exceed the interval.");
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Maximum number of in-flight requests must be positive.");
+        }
+        this.targetNanos = target.toNanos();
+        this.intervalNanos = interval.toNanos();
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public void configure(final ResourceInfo resourceInfo, final FeatureContext context) {
+        final Admission admission = resourceInfo.getResourceMetadata().getAnnotation(Admission.class);
+        final Criticality criticality = admission == null ? Criticality.NORMAL : admission.value();
+        context.register(new AdmissionControlFilter(criticality, targetNanos, intervalNanos, maxInFlight));
+    }
+}
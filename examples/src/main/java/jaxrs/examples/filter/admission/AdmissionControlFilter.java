@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+
+package jaxrs.examples.filter.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.PropertyKey;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Admission controller of a single resource method, shedding requests with a {@code 503 (Service Unavailable)} response
+ * and a {@code Retry-After} header once the resource method is overloaded.
+ * <p>
+ * The controller follows the CoDel (controlled delay) approach applied to request queues: it tracks the minimum
+ * queueing delay of the requests admitted within each interval. As long as that minimum stays below the target delay,
+ * queues drain in time and requests are shed only after having waited for a whole interval. Once even the minimum
+ * delay exceeds the target, a standing queue has formed and requests are shed as soon as they have waited longer than
+ * the target. In both cases the allowed delay is scaled by the {@link Criticality} of the request. In addition, the
+ * number of requests processed by the resource method at the same time can be capped.
+ * </p>
+ * <p>
+ * The queueing delay is measured from the time recorded by the {@link ArrivalTimeFilter}. The controller runs before
+ * authentication, and before the request entity is read, so shed requests are cheap to reject. The criticality
+ * declared by {@link Admission &#64;Admission} may be overridden per request, e.g. by a pre-matching filter classifying
+ * requests by API key, using the {@link #CRITICALITY} request property.
+ * </p>
+ * <p>
+ * Instances are registered per resource method by the {@link AdmissionControlFeature}. An admitted request is counted
+ * as in flight until its response is filtered, so when capping the number of requests in flight, all exceptions should
+ * be mapped to responses, e.g. by a catch-all {@link jakarta.ws.rs.ext.ExceptionMapper}.
+ * </p>
+ */
+@Priority(Priorities.AUTHENTICATION - 100)
+public class AdmissionControlFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    /**
+     * Request property overriding the criticality of a request.
+     */
+    public static final PropertyKey<Criticality> CRITICALITY = PropertyKey.of("jaxrs.examples.filter.admission.criticality",
+            Criticality.class);
+
+    private static final PropertyKey<AdmissionControlFilter> ADMITTED = PropertyKey.of(
+            "jaxrs.examples.filter.admission.admitted", AdmissionControlFilter.class);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final long MAX_RETRY_AFTER = 60;
+
+    private final Criticality criticality;
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final int maxInFlight;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong intervalEnd;
+    private final AtomicLong minDelay = new AtomicLong(Long.MAX_VALUE);
+    private volatile boolean overloaded;
+    private volatile long lastMinDelay;
+
+    /**
+     * Create a new admission controller.
+     *
+     * @param criticality default criticality of the requests.
+     * @param targetNanos target queueing delay in nanoseconds.
+     * @param intervalNanos interval in nanoseconds.
+     * @param maxInFlight maximum number of requests processed at the same time.
+     */
+    AdmissionControlFilter(final Criticality criticality, final long targetNanos, final long intervalNanos, final int maxInFlight) {
+        this.criticality = criticality;
+        this.targetNanos = targetNanos;
+        this.intervalNanos = intervalNanos;
+        this.maxInFlight = maxInFlight;
+        this.intervalEnd = new AtomicLong(System.nanoTime() + intervalNanos);
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext) {
+        final Criticality override = requestContext.getProperty(CRITICALITY);
+        final Criticality effective = override == null ? criticality : override;
+        if (effective == Criticality.CRITICAL) {
+            return;
+        }
+
+        final long now = System.nanoTime();
+        final Long arrival = requestContext.getProperty(ArrivalTimeFilter.ARRIVAL);
+        final long delay = arrival == null ? 0 : now - arrival;
+        final long allowed = effective.allowedDelay(record(now, delay) ? targetNanos : intervalNanos);
+
+        if (delay > allowed) {
+            shed(requestContext);
+        } else if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            shed(requestContext);
+        } else {
+            requestContext.setProperty(ADMITTED, this);
+        }
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+        if (requestContext.getProperty(ADMITTED) == this) {
+            requestContext.removeProperty(ADMITTED);
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Record the queueing delay of a request, closing the current interval once it has elapsed.
+     *
+     * @return {@code true} if the resource method is overloaded.
+     */
+    private boolean record(final long now, final long delay) {
+        long min;
+        while (delay < (min = minDelay.get()) && !minDelay.compareAndSet(min, delay)) {
+            // retry
+        }
+        final long end = intervalEnd.get();
+        if (now - end >= 0 && intervalEnd.compareAndSet(end, now + intervalNanos)) {
+            min = minDelay.getAndSet(Long.MAX_VALUE);
+            lastMinDelay = min;
+            overloaded = min > targetNanos;
+        }
+        return overloaded;
+    }
+
+    private void shed(final ContainerRequestContext requestContext) {
+        // expect the standing queue and one more interval to drain before retrying
+        final long retryAfter = Math.min(MAX_RETRY_AFTER,
+                Math.max(1, (lastMinDelay + intervalNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND));
+        requestContext.abortWith(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfter)
+                .build());
+    }
+}
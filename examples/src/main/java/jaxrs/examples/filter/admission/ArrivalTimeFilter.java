@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+
+package jaxrs.examples.filter.admission;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.core.PropertyKey;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Pre-matching filter recording the time a request has been received, used to compute the queueing delay of the request
+ * when it is {@link AdmissionControlFilter admitted}.
+ * <p>
+ * The filter runs before any other filter, so the recorded queueing delay covers request matching and all filters
+ * preceding the admission control. Queueing that happens in the container, before the JAX-RS runtime receives the
+ * request, is not covered; a container exposing its own arrival timestamp may set {@link #ARRIVAL} instead.
+ * </p>
+ */
+@Provider
+@PreMatching
+@Priority(Integer.MIN_VALUE)
+public class ArrivalTimeFilter implements ContainerRequestFilter {
+
+    /**
+     * Request property holding the {@link System#nanoTime()} the request has been received.
+     */
+    public static final PropertyKey<Long> ARRIVAL = PropertyKey.of("jaxrs.examples.filter.admission.arrival", Long.class);
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext) {
+        if (requestContext.getProperty(ARRIVAL) == null) {
+            requestContext.setProperty(ARRIVAL, System.nanoTime());
+        }
+    }
+}
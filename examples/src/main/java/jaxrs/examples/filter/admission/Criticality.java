@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+
+package jaxrs.examples.filter.admission;
+
+/**
+ * Criticality of requests, determining the order in which requests are shed under load.
+ * <p>
+ * The less critical a request, the shorter it may wait before it is shed: the allowed queueing delay of a criticality is
+ * the queueing delay allowed by the {@link AdmissionControlFilter admission controller} multiplied by its allowance.
+ * </p>
+ */
+public enum Criticality {
+
+    /**
+     * Requests shed first, e.g. prefetching or batch traffic.
+     */
+    SHEDDABLE(1),
+
+    /**
+     * Regular requests.
+     */
+    NORMAL(2),
+
+    /**
+     * Requests shed last, e.g. of paying customers.
+     */
+    HIGH(4),
+
+    /**
+     * Requests never shed, e.g. health checks.
+     */
+    CRITICAL(0);
+
+    private final int allowance;
+
+    Criticality(final int allowance) {
+        this.allowance = allowance;
+    }
+
+    /**
+     * Get the allowed queueing delay of requests of this criticality.
+     *
+     * @param delayNanos queueing delay allowed by the admission controller, in nanoseconds.
+     * @return allowed queueing delay in nanoseconds, {@link Long#MAX_VALUE} if requests are never shed.
+     */
+    long allowedDelay(final long delayNanos) {
+        return allowance == 0 ? Long.MAX_VALUE : delayNanos * allowance;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+
+package jaxrs.examples.filter.caching;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.NameBinding;
+
+/**
+ * Opts a resource method, or all resource methods of a resource class, in to the server response cache implemented by
+ * {@link ServerCachingFilter} and {@link CachingWriterInterceptor}.
+ * <p>
+ * Successful responses to {@code GET} requests are cached for at most the given time to live. A shorter
+ * {@code max-age} or {@code s-maxage} directive of the {@code Cache-Control} header of the response takes precedence.
+ * </p>
+ *
+ * <pre>
+ * &#64;GET
+ * &#64;Cached(ttl = 30)
+ * public Catalog getCatalog() {
+ *     return catalogService.load();
+ * }
+ * </pre>
+ */
+@NameBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cached {
+
+    /**
+     * Maximum time to live of a cached response.
+     *
+     * @return time to live in {@link #unit() units}.
+     */
+    long ttl() default 60;
+
+    /**
+     * Time unit of the {@link #ttl() time to live}.
+     *
+     * @return time unit.
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+
+package jaxrs.examples.filter.caching;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Writer interceptor storing the serialized entity of responses marked by the {@link ServerCachingFilter} in the
+ * {@link ResponseCache}, while the entity is written to the client.
+ * <p>
+ * The interceptor runs after content coding interceptors, so the cache holds the identity representation of an entity
+ * and content coding is negotiated for every client anew.
+ * </p>
+ */
+@Provider
+@Cached
+@Priority(Priorities.ENTITY_CODER + 1000)
+public class CachingWriterInterceptor implements WriterInterceptor {
+
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+        final ResponseCache.Pending pending = context.getProperty(ServerCachingFilter.PENDING);
+        if (pending == null) {
+            context.proceed();
+            return;
+        }
+        context.removeProperty(ServerCachingFilter.PENDING);
+
+        final OutputStream out = context.getOutputStream();
+        final CapturingOutputStream capture = new CapturingOutputStream(out, pending.maxEntryBytes());
+        context.setOutputStream(capture);
+        try {
+            context.proceed();
+        } finally {
+            context.setOutputStream(out);
+        }
+        if (capture.buffer != null) {
+            pending.store(context.getHeaders(), capture.buffer.toByteArray());
+        }
+    }
+
+    /**
+     * Output stream retaining a copy of the written bytes up to a limit.
+     */
+    private static final class CapturingOutputStream extends FilterOutputStream {
+
+        private final long limit;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private CapturingOutputStream(final OutputStream out, final long limit) {
+            super(out);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            capture(1).write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            capture(len).write(b, off, len);
+        }
+
+        // once the limit is exceeded, the entity is no longer captured
+        private OutputStream capture(final int len) {
+            if (buffer != null && buffer.size() + (long) len > limit) {
+                buffer = null;
+            }
+            return buffer == null ? OutputStream.nullOutputStream() : buffer;
+        }
+    }
+}
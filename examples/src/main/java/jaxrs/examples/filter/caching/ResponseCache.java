@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+
+package jaxrs.examples.filter.caching;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * In-memory store of serialized responses, bounded by a byte budget.
+ * <p>
+ * Responses are stored per request URI and, within a URI, per values of the request headers listed in the {@code Vary}
+ * header of the response. Once the budget is exceeded, the least recently used URIs are evicted along with all their
+ * cached variants. Expired responses are evicted when looked up.
+ * </p>
+ * <p>
+ * A single instance may be shared by several {@link ServerCachingFilter} instances.
+ * </p>
+ */
+public class ResponseCache {
+
+    /**
+     * Default byte budget.
+     */
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    // estimated memory held by a cached response besides its entity
+    private static final int ENTRY_OVERHEAD = 512;
+
+    // headers not replayed from the cache, recomputed by the runtime or by content coding interceptors
+    private static final Set<String> EXCLUDED_HEADERS = Set.of("age", "connection", "content-encoding", "content-length",
+            "date", "etag", "last-modified", "transfer-encoding");
+
+    // headers sent along with a 304 (Not Modified) response
+    private static final List<String> VALIDATION_HEADERS = List.of(HttpHeaders.CACHE_CONTROL, HttpHeaders.CONTENT_LOCATION,
+            HttpHeaders.EXPIRES, HttpHeaders.VARY);
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    // guarded by this, in access order
+    private final LinkedHashMap<String, Variants> resources = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * Create a cache using the {@link #DEFAULT_MAX_BYTES default byte budget}.
+     */
+    public ResponseCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Create a new cache.
+     * <p>
+     * To prevent a few large responses from evicting all others, a single response entity may occupy at most a
+     * sixteenth of the budget.
+     * </p>
+     *
+     * @param maxBytes byte budget of the cache.
+     * @throws IllegalArgumentException if the budget is not positive.
+     */
+    public ResponseCache(final long maxBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Byte budget must be positive.");
+        }
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.max(1, maxBytes / 16);
+    }
+
+    /**
+     * Get the number of bytes currently occupied by cached responses.
+     *
+     * @return estimated size of the cache in bytes.
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Look up a fresh cached response.
+     *
+     * @param resourceKey key of the requested resource.
+     * @param requestHeaders headers of the request.
+     * @return cached response or {@code null} if there is no fresh response matching the request headers.
+     */
+    CachedResponse get(final String resourceKey, final MultivaluedMap<String, String> requestHeaders) {
+        final long now = System.nanoTime();
+        synchronized (this) {
+            final Variants variants = resources.get(resourceKey);
+            if (variants == null) {
+                return null;
+            }
+            final String variantKey = variantKey(variants.vary, requestHeaders);
+            final CachedResponse response = variants.responses.get(variantKey);
+            if (response == null || now - response.expiresAt < 0) {
+                return response;
+            }
+            variants.responses.remove(variantKey);
+            variants.bytes -= response.size;
+            size -= response.size;
+            if (variants.responses.isEmpty()) {
+                resources.remove(resourceKey);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Prepare a response to be stored once its entity has been serialized.
+     *
+     * @param resourceKey key of the requested resource.
+     * @param vary lower-case names of the request headers the response varies on.
+     * @param requestHeaders headers of the request.
+     * @param ttlNanos time to live of the response in nanoseconds.
+     * @param entityTag entity tag of the response, {@code null} to compute one from the entity.
+     * @param lastModified last modification date of the response, may be {@code null}.
+     * @param shared {@code true} if the response may also be served to requests carrying an {@code Authorization} header.
+     * @return response pending storage.
+     */
+    Pending prepare(final String resourceKey, final List<String> vary, final MultivaluedMap<String, String> requestHeaders,
+            final long ttlNanos, final EntityTag entityTag, final Date lastModified, final boolean shared) {
+        return new Pending(resourceKey, vary, variantKey(vary, requestHeaders), ttlNanos, entityTag, lastModified, shared);
+    }
+
+    private void store(final Pending pending, final CachedResponse response) {
+        synchronized (this) {
+            Variants variants = resources.get(pending.resourceKey);
+            if (variants == null || !variants.vary.equals(pending.vary)) {
+                if (variants != null) {
+                    size -= variants.bytes;
+                }
+                variants = new Variants(pending.vary);
+                resources.put(pending.resourceKey, variants);
+            }
+            final CachedResponse replaced = variants.responses.put(pending.variantKey, response);
+            if (replaced != null) {
+                variants.bytes -= replaced.size;
+                size -= replaced.size;
+            }
+            variants.bytes += response.size;
+            size += response.size;
+
+            final Iterator<Variants> eldest = resources.values().iterator();
+            while (size > maxBytes && eldest.hasNext()) {
+                size -= eldest.next().bytes;
+                eldest.remove();
+            }
+        }
+    }
+
+    private static String variantKey(final List<String> vary, final MultivaluedMap<String, String> requestHeaders) {
+        if (vary.isEmpty()) {
+            return "";
+        }
+        final StringBuilder key = new StringBuilder();
+        for (final String name : vary) {
+            final List<String> values = requestHeaders.get(name);
+            key.append(name).append(':');
+            if (values != null) {
+                key.append(String.join(",", values));
+            }
+            key.append('\n');
+        }
+        return key.toString();
+    }
+
+    private static EntityTag entityTag(final byte[] entity) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(entity);
+            return new EntityTag(new String(Base64.getUrlEncoder().withoutPadding().encode(digest), StandardCharsets.US_ASCII));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Cached variants of a resource.
+     */
+    private static final class Variants {
+
+        private final List<String> vary;
+        private final Map<String, CachedResponse> responses = new HashMap<>();
+        private long bytes;
+
+        private Variants(final List<String> vary) {
+            this.vary = vary;
+        }
+    }
+
+    /**
+     * Response prepared to be stored by the {@link CachingWriterInterceptor} once its entity has been serialized.
+     */
+    final class Pending {
+
+        private final String resourceKey;
+        private final List<String> vary;
+        private final String variantKey;
+        private final long ttlNanos;
+        private final EntityTag entityTag;
+        private final Date lastModified;
+        private final boolean shared;
+        private final long createdAt = System.nanoTime();
+
+        private Pending(final String resourceKey, final List<String> vary, final String variantKey, final long ttlNanos,
+                final EntityTag entityTag, final Date lastModified, final boolean shared) {
+            this.resourceKey = resourceKey;
+            this.vary = vary;
+            this.variantKey = variantKey;
+            this.ttlNanos = ttlNanos;
+            this.entityTag = entityTag;
+            this.lastModified = lastModified;
+            this.shared = shared;
+        }
+
+        /**
+         * Get the maximum size of an entity to be stored.
+         *
+         * @return maximum entity size in bytes.
+         */
+        long maxEntryBytes() {
+            return maxEntryBytes;
+        }
+
+        /**
+         * Store the response.
+         *
+         * @param headers headers of the response.
+         * @param entity serialized entity of the response.
+         */
+        void store(final MultivaluedMap<String, Object> headers, final byte[] entity) {
+            if (entity.length > maxEntryBytes) {
+                return;
+            }
+            final MultivaluedMap<String, Object> replayed = new MultivaluedHashMap<>();
+            for (final Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                if (!EXCLUDED_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                    replayed.put(header.getKey(), new ArrayList<>(header.getValue()));
+                }
+            }
+            final EntityTag tag = entityTag == null ? entityTag(entity) : entityTag;
+            ResponseCache.this.store(this, new CachedResponse(replayed, entity, tag, lastModified, shared, createdAt,
+                    createdAt + ttlNanos));
+        }
+    }
+
+    /**
+     * Cached response.
+     */
+    static final class CachedResponse {
+
+        private final MultivaluedMap<String, Object> headers;
+        private final byte[] entity;
+        private final EntityTag entityTag;
+        private final Date lastModified;
+        private final boolean shared;
+        private final long storedAt;
+        private final long expiresAt;
+        private final long size;
+
+        private CachedResponse(final MultivaluedMap<String, Object> headers, final byte[] entity, final EntityTag entityTag,
+                final Date lastModified, final boolean shared, final long storedAt, final long expiresAt) {
+            this.headers = headers;
+            this.entity = entity;
+            this.entityTag = entityTag;
+            this.lastModified = lastModified;
+            this.shared = shared;
+            this.storedAt = storedAt;
+            this.expiresAt = expiresAt;
+            this.size = entity.length + ENTRY_OVERHEAD;
+        }
+
+        /**
+         * Check whether the response may be served to requests carrying an {@code Authorization} header.
+         *
+         * @return {@code true} if the response explicitly allows to be served to authorized requests.
+         */
+        boolean isShared() {
+            return shared;
+        }
+
+        /**
+         * Build the response to a request, answering conditional requests with {@code 304 (Not Modified)} or
+         * {@code 412 (Precondition Failed)}.
+         *
+         * @param request request to be answered.
+         * @return response to the request.
+         */
+        Response toResponse(final Request request) {
+            Response.ResponseBuilder builder = lastModified == null
+                    ? request.evaluatePreconditions(entityTag)
+                    : request.evaluatePreconditions(lastModified, entityTag);
+            if (builder != null) {
+                for (final String name : VALIDATION_HEADERS) {
+                    final List<Object> values = headers.get(name);
+                    if (values != null) {
+                        for (final Object value : values) {
+                            builder.header(name, value);
+                        }
+                    }
+                }
+            } else {
+                builder = Response.ok(entity).tag(entityTag).lastModified(lastModified);
+                for (final Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                    for (final Object value : header.getValue()) {
+                        builder.header(header.getKey(), value);
+                    }
+                }
+            }
+            return builder.header("Age", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - storedAt)).build();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,36 +10,210 @@
 
 package jaxrs.examples.filter.caching;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.annotation.Priority;
+import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.Priorities;
-import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.PropertyKey;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.RuntimeDelegate;
 
 /**
- * ServerCachingFilter class.
+ * Server response cache filter, bound to resource methods annotated with {@link Cached &#64;Cached}.
+ * <p>
+ * The request filter answers {@code GET} requests from the {@link ResponseCache}, aborting the filter chain with the
+ * cached response, or with {@code 304 (Not Modified)} if the request carries matching validators. The response filter
+ * marks successful responses to be stored, which the {@link CachingWriterInterceptor} does once their entity has been
+ * serialized, so hits are served without invoking the resource method and without serializing the entity again.
+ * </p>
+ * <p>
+ * Requests carrying a {@code Cache-Control: no-cache} or {@code max-age=0} directive bypass the cache and refresh it,
+ * requests carrying {@code no-store} bypass it entirely. Responses are not stored if they set cookies, if their
+ * {@code Cache-Control} header forbids storing them in a shared cache, or if they vary on all request headers.
+ * </p>
+ * <p>
+ * As required from a shared cache by RFC 9111, section 3.5, responses to requests carrying an {@code Authorization}
+ * header are neither stored nor served from the cache unless their {@code Cache-Control} header contains a
+ * {@code public}, {@code s-maxage} or {@code must-revalidate} directive.
+ * </p>
  *
  * @author Santiago Pericas-Geertsen
  */
 @Provider
+@Cached
 @Priority(Priorities.USER)
-public class ServerCachingFilter implements ContainerRequestFilter {
+public class ServerCachingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    /**
+     * Request property holding the response to be stored by the {@link CachingWriterInterceptor}.
+     */
+    static final PropertyKey<ResponseCache.Pending> PENDING = PropertyKey.of("jaxrs.examples.filter.caching.pending",
+            ResponseCache.Pending.class);
+
+    private static final PropertyKey<String> MISS = PropertyKey.of("jaxrs.examples.filter.caching.miss", String.class);
+
+    private static final CacheControl NO_STORE = new CacheControl();
+
+    static {
+        NO_STORE.setNoStore(true);
+    }
+
+    private final ResponseCache cache;
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    /**
+     * Create a filter using a new cache with the {@link ResponseCache#DEFAULT_MAX_BYTES default byte budget}.
+     */
+    public ServerCachingFilter() {
+        this(new ResponseCache());
+    }
+
+    /**
+     * Create a filter using the given cache.
+     *
+     * @param cache response cache.
+     */
+    public ServerCachingFilter(final ResponseCache cache) {
+        this.cache = Objects.requireNonNull(cache, "cache");
+    }
 
     @Override
-    public void filter(ContainerRequestContext requestContext) throws IOException {
-        Response.ResponseBuilder res = getCachedResponse(requestContext);
-        if (res != null) {
-            // stop the filter chain
-            throw new WebApplicationException(res.build());
+    public void filter(final ContainerRequestContext requestContext) {
+        if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+            return;
+        }
+        final CacheControl cacheControl = cacheControl(requestContext.getHeaderString(HttpHeaders.CACHE_CONTROL), null);
+        if (cacheControl != null && cacheControl.isNoStore()) {
+            return;
         }
+
+        final String resourceKey = requestContext.getUriInfo().getRequestUri().toString();
+        if (cacheControl == null || !cacheControl.isNoCache() && cacheControl.getMaxAge() != 0) {
+            final ResponseCache.CachedResponse cached = cache.get(resourceKey, requestContext.getHeaders());
+            if (cached != null && (cached.isShared() || !isAuthorized(requestContext))) {
+                // stop the filter chain
+                requestContext.abortWith(cached.toResponse(requestContext.getRequest()));
+                return;
+            }
+        }
+        requestContext.setProperty(MISS, resourceKey);
     }
 
-    private Response.ResponseBuilder getCachedResponse(ContainerRequestContext requestContext) {
-        // implemetation goes here
-        return null;
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+        final String resourceKey = requestContext.getProperty(MISS);
+        if (resourceKey == null || responseContext.getStatus() != Response.Status.OK.getStatusCode()
+                || !responseContext.hasEntity()) {
+            return;
+        }
+        // an entity encoded by the resource itself cannot be replayed without its coding
+        final MultivaluedMap<String, Object> headers = responseContext.getHeaders();
+        if (headers.containsKey(HttpHeaders.SET_COOKIE) || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return;
+        }
+
+        long ttlNanos = ttlNanos();
+        final String cacheControlValue = responseContext.getHeaderString(HttpHeaders.CACHE_CONTROL);
+        final CacheControl cacheControl = cacheControl(cacheControlValue, NO_STORE);
+        final boolean shared = cacheControl != null
+                && (hasPublic(cacheControlValue) || cacheControl.getSMaxAge() >= 0 || cacheControl.isMustRevalidate());
+        if (!shared && isAuthorized(requestContext)) {
+            return;
+        }
+        if (cacheControl != null) {
+            if (cacheControl.isNoStore() || cacheControl.isNoCache() || cacheControl.isPrivate()) {
+                return;
+            }
+            final int maxAge = cacheControl.getSMaxAge() >= 0 ? cacheControl.getSMaxAge() : cacheControl.getMaxAge();
+            if (maxAge >= 0) {
+                ttlNanos = Math.min(ttlNanos, TimeUnit.SECONDS.toNanos(maxAge));
+            }
+        }
+        final List<String> vary = vary(responseContext.getHeaderString(HttpHeaders.VARY));
+        if (ttlNanos <= 0 || vary == null) {
+            return;
+        }
+
+        requestContext.setProperty(PENDING, cache.prepare(resourceKey, vary, requestContext.getHeaders(), ttlNanos,
+                responseContext.getEntityTag(), responseContext.getLastModified(), shared));
+    }
+
+    private long ttlNanos() {
+        final Cached cached = resourceInfo.getResourceMetadata().getAnnotation(Cached.class);
+        return cached == null ? 0 : cached.unit().toNanos(cached.ttl());
+    }
+
+    private static CacheControl cacheControl(final String value, final CacheControl malformed) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return RuntimeDelegate.getInstance().createHeaderDelegate(CacheControl.class).fromString(value);
+        } catch (final IllegalArgumentException e) {
+            return malformed;
+        }
+    }
+
+    private static boolean isAuthorized(final ContainerRequestContext requestContext) {
+        return requestContext.getHeaders().containsKey(HttpHeaders.AUTHORIZATION);
+    }
+
+    /**
+     * Check whether a {@code Cache-Control} header contains the {@code public} directive, which {@link CacheControl} does
+     * not expose.
+     *
+     * @return {@code true} if the header contains the {@code public} directive.
+     */
+    private static boolean hasPublic(final String value) {
+        for (final String directive : value.split(",")) {
+            if (directive.trim().equalsIgnoreCase("public")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the sorted, lower-case names of the request headers a response varies on.
+     * <p>
+     * {@code Accept-Encoding} is ignored, as responses are cached before content coding is applied.
+     * </p>
+     *
+     * @return header names, {@code null} if the response varies on all request headers.
+     */
+    private static List<String> vary(final String value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        final List<String> names = new ArrayList<>();
+        for (final String name : value.split(",")) {
+            final String normalized = name.trim().toLowerCase(Locale.ROOT);
+            if (normalized.equals("*")) {
+                return null;
+            }
+            if (!normalized.isEmpty() && !normalized.equals("accept-encoding") && !names.contains(normalized)) {
+                names.add(normalized);
+            }
+        }
+        Collections.sort(names);
+        return names;
     }
 }
@@ -1,4 +1,4 @@
 /**
- * Client caching filter examples.
+ * Server response caching examples.
  */
 package jaxrs.examples.filter.caching;
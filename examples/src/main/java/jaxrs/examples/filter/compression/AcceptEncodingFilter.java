@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.filter.compression;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+
+/**
+ * Client filter advertising the content codings decoded by {@link CompressionInterceptor}.
+ * <p>
+ * An {@code Accept-Encoding} header set by the application is left untouched.
+ * </p>
+ */
+public class AcceptEncodingFilter implements ClientRequestFilter {
+
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+        if (!requestContext.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            requestContext.getHeaders().putSingle(HttpHeaders.ACCEPT_ENCODING,
+                    CompressionInterceptor.GZIP + ", " + CompressionInterceptor.DEFLATE);
+        }
+    }
+}
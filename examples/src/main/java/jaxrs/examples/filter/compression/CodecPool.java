@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.filter.compression;
+
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Per-thread pool of {@link Deflater} and {@link Inflater} instances.
+ * <p>
+ * Each thread keeps at most one idle instance of every kind, so that the native zlib state is allocated once per worker
+ * thread rather than once per message. An instance acquired while the idle slot is empty, e.g. by a nested compressed
+ * message, is simply created and released with {@code end()} once it is returned.
+ * </p>
+ * <p>
+ * The pool only pays off on long-lived worker threads. Requests dispatched to resource methods annotated with
+ * {@link jakarta.ws.rs.container.RunOnVirtualThread &#64;RunOnVirtualThread} each run on a new virtual thread, so an
+ * instance pooled by one of them is never reused and its native memory is only freed by the garbage collector once the
+ * thread has terminated; such applications gain nothing from the pool.
+ * </p>
+ */
+final class CodecPool {
+
+    private static final ThreadLocal<Deflater> GZIP_DEFLATER = new ThreadLocal<>();
+    private static final ThreadLocal<Deflater> ZLIB_DEFLATER = new ThreadLocal<>();
+    private static final ThreadLocal<Inflater> GZIP_INFLATER = new ThreadLocal<>();
+    private static final ThreadLocal<Inflater> ZLIB_INFLATER = new ThreadLocal<>();
+
+    private CodecPool() {
+    }
+
+    /**
+     * Acquire a deflater.
+     *
+     * @param nowrap {@code true} for raw deflate data as used by gzip, {@code false} for the zlib format.
+     * @param level compression level.
+     * @return deflater ready to be used.
+     */
+    static Deflater acquireDeflater(boolean nowrap, int level) {
+        final ThreadLocal<Deflater> slot = nowrap ? GZIP_DEFLATER : ZLIB_DEFLATER;
+        final Deflater deflater = slot.get();
+        if (deflater == null) {
+            return new Deflater(level, nowrap);
+        }
+        slot.set(null);
+        deflater.setLevel(level);
+        return deflater;
+    }
+
+    /**
+     * Return a deflater acquired using {@link #acquireDeflater(boolean, int)}.
+     *
+     * @param deflater deflater to be returned.
+     * @param nowrap the value used to acquire the deflater.
+     */
+    static void release(Deflater deflater, boolean nowrap) {
+        final ThreadLocal<Deflater> slot = nowrap ? GZIP_DEFLATER : ZLIB_DEFLATER;
+        if (slot.get() == null) {
+            deflater.reset();
+            slot.set(deflater);
+        } else {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Acquire an inflater.
+     *
+     * @param nowrap {@code true} for raw deflate data as used by gzip, {@code false} for the zlib format.
+     * @return inflater ready to be used.
+     */
+    static Inflater acquireInflater(boolean nowrap) {
+        final ThreadLocal<Inflater> slot = nowrap ? GZIP_INFLATER : ZLIB_INFLATER;
+        final Inflater inflater = slot.get();
+        if (inflater == null) {
+            return new Inflater(nowrap);
+        }
+        slot.set(null);
+        return inflater;
+    }
+
+    /**
+     * Return an inflater acquired using {@link #acquireInflater(boolean)}.
+     *
+     * @param inflater inflater to be returned.
+     * @param nowrap the value used to acquire the inflater.
+     */
+    static void release(Inflater inflater, boolean nowrap) {
+        final ThreadLocal<Inflater> slot = nowrap ? GZIP_INFLATER : ZLIB_INFLATER;
+        if (slot.get() == null) {
+            inflater.reset();
+            slot.set(inflater);
+        } else {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.filter.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Output stream compressing an entity once it grows beyond a threshold.
+ * <p>
+ * The first {@code threshold} bytes are buffered. If the entity is written completely before the buffer overflows, it
+ * is sent uncompressed. Otherwise the {@code Content-Encoding} header is set and the buffered bytes, as well as all
+ * subsequent bytes, are compressed. Since headers are committed with the first byte written to the underlying stream,
+ * {@link #flush()} has no effect while bytes are being buffered.
+ * </p>
+ */
+class CompressingOutputStream extends OutputStream {
+
+    private final OutputStream out;
+    private final String encoding;
+    private final int level;
+    private final MultivaluedMap<String, Object> headers;
+    private final byte[] buffer;
+    private int count;
+
+    private Deflater deflater;
+    private DeflaterOutputStream deflating;
+
+    /**
+     * Create a new stream.
+     *
+     * @param out underlying output stream.
+     * @param encoding content coding, {@code gzip} or {@code deflate}.
+     * @param level compression level.
+     * @param threshold minimum entity size in bytes to be compressed.
+     * @param headers message headers to be updated once compression starts, {@code null} if the entity is to be compressed
+     * regardless of its size and the {@code Content-Encoding} header has been set already.
+     */
+    CompressingOutputStream(OutputStream out, String encoding, int level, int threshold, MultivaluedMap<String, Object> headers) {
+        this.out = out;
+        this.encoding = encoding;
+        this.level = level;
+        this.headers = headers;
+        this.buffer = new byte[headers == null ? 0 : threshold];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (deflating == null) {
+            if (count + len <= buffer.length) {
+                System.arraycopy(b, off, buffer, count, len);
+                count += len;
+                return;
+            }
+            startCompression();
+        }
+        deflating.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (deflating != null) {
+            deflating.flush();
+        }
+    }
+
+    /**
+     * Write all remaining data to the underlying stream without closing it.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    void finish() throws IOException {
+        if (deflating == null) {
+            if (headers != null) {
+                out.write(buffer, 0, count);
+                return;
+            }
+            startCompression();
+        }
+        deflating.finish();
+    }
+
+    /**
+     * Return the deflater to the pool, must be called once the stream is no longer used.
+     */
+    void release() {
+        if (deflater != null) {
+            CodecPool.release(deflater, isGzip());
+            deflater = null;
+        }
+    }
+
+    private void startCompression() throws IOException {
+        if (headers != null) {
+            headers.putSingle(HttpHeaders.CONTENT_ENCODING, encoding);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+        deflater = CodecPool.acquireDeflater(isGzip(), level);
+        deflating = isGzip() ? new GzipDeflaterOutputStream(out, deflater) : new DeflaterOutputStream(out, deflater, 8192);
+        deflating.write(buffer, 0, count);
+    }
+
+    private boolean isGzip() {
+        return CompressionInterceptor.GZIP.equals(encoding);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.filter.compression;
+
+import java.util.zip.Deflater;
+
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.core.FeatureContext;
+
+/**
+ * Example feature adding transparent {@code gzip} and {@code deflate} content coding to a client or a server.
+ * <p>
+ * In both runtimes, encoded incoming entities are decoded. A client advertises the supported codings in the
+ * {@code Accept-Encoding} header and compresses request entities for which the application has set the
+ * {@code Content-Encoding} header:
+ * </p>
+ *
+ * <pre>
+ * Client client = ClientBuilder.newClient().register(new CompressionFeature());
+ * client.target("http://example.com/items").request()
+ *         .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+ *         .post(Entity.json(items));
+ * </pre>
+ * <p>
+ * A server negotiates the coding of response entities with the client, skipping entities smaller than the configured
+ * threshold and entities of media types denoting already compressed data, such as images or archives.
+ * </p>
+ */
+public class CompressionFeature implements Feature {
+
+    /**
+     * Default minimum size in bytes of a response entity to be compressed.
+     */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private final int level;
+    private final int threshold;
+
+    /**
+     * Create a feature using the default compression level and the {@link #DEFAULT_THRESHOLD default threshold}.
+     */
+    public CompressionFeature() {
+        this(Deflater.DEFAULT_COMPRESSION, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Create a new feature.
+     *
+     * @param level compression level from {@code 0} to {@code 9} or {@link Deflater#DEFAULT_COMPRESSION}.
+     * @param threshold minimum size in bytes of a response entity to be compressed.
+     * @throws IllegalArgumentException if the level or the threshold is out of range.
+     */
+    public CompressionFeature(int level, int threshold) {
+        if ((level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Negative threshold.");
+        }
+        this.level = level;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public boolean configure(FeatureContext context) {
+        final boolean server = context.getConfiguration().getRuntimeType() == RuntimeType.SERVER;
+        context.register(new CompressionInterceptor(level, threshold, server));
+        context.register(server ? new EncodingNegotiationFilter() : new AcceptEncodingFilter());
+        return true;
+    }
+}
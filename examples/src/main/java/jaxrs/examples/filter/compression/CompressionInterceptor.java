@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.filter.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.Inflater;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Interceptor decoding {@code gzip} and {@code deflate} encoded entities and encoding outgoing entities.
+ * <p>
+ * On the server, an outgoing entity is compressed using the encoding negotiated by {@link EncodingNegotiationFilter},
+ * provided it is at least {@code threshold} bytes long. On the client, a request entity is compressed if the request
+ * carries a {@code Content-Encoding} header set by the application. {@link java.util.zip.Deflater} and
+ * {@link Inflater} instances are pooled per thread, see {@link CodecPool}.
+ * </p>
+ */
+@Priority(Priorities.ENTITY_CODER)
+public class CompressionInterceptor implements ReaderInterceptor, WriterInterceptor {
+
+    /**
+     * Name of the request property holding the encoding negotiated for the response entity.
+     */
+    public static final String ENCODING_PROPERTY = "jaxrs.examples.filter.compression.encoding";
+
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+
+    private final int level;
+    private final int threshold;
+    private final boolean server;
+
+    /**
+     * Create a new interceptor.
+     *
+     * @param level compression level, see {@link java.util.zip.Deflater#setLevel(int)}.
+     * @param threshold minimum response entity size in bytes to be compressed.
+     * @param server {@code true} if used in a server runtime, {@code false} if used in a client runtime.
+     */
+    public CompressionInterceptor(int level, int threshold, boolean server) {
+        this.level = level;
+        this.threshold = threshold;
+        this.server = server;
+    }
+
+    @Override
+    public Object aroundReadFrom(ReaderInterceptorContext ctx) throws IOException {
+        final String encoding = normalize(ctx.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        if (encoding == null) {
+            return ctx.proceed();
+        }
+
+        final InputStream old = ctx.getInputStream();
+        // the decoding stream returns its inflater to the pool, as the entity may be consumed after this call returns
+        ctx.setInputStream(PooledInflaterInputStream.decode(old, GZIP.equals(encoding)));
+        ctx.getHeaders().remove(HttpHeaders.CONTENT_ENCODING);
+        ctx.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+        try {
+            return ctx.proceed();
+        } finally {
+            ctx.setInputStream(old);
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext ctx) throws IOException {
+        final CompressingOutputStream compressing;
+        final OutputStream old = ctx.getOutputStream();
+        if (server) {
+            final Object encoding = ctx.getProperty(ENCODING_PROPERTY);
+            if (encoding == null) {
+                ctx.proceed();
+                return;
+            }
+            compressing = new CompressingOutputStream(old, (String) encoding, level, threshold, ctx.getHeaders());
+        } else {
+            final Object header = ctx.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+            final String encoding = normalize(header == null ? null : header.toString());
+            if (encoding == null) {
+                ctx.proceed();
+                return;
+            }
+            compressing = new CompressingOutputStream(old, encoding, level, 0, null);
+        }
+
+        ctx.setOutputStream(compressing);
+        try {
+            ctx.proceed();
+            compressing.finish();
+        } finally {
+            compressing.release();
+            ctx.setOutputStream(old);
+        }
+    }
+
+    /**
+     * Get the supported content coding denoted by a {@code Content-Encoding} header value.
+     *
+     * @param contentEncoding header value, may be {@code null}.
+     * @return {@code gzip}, {@code deflate} or {@code null} if the value does not denote a single supported coding.
+     */
+    private static String normalize(String contentEncoding) {
+        if (contentEncoding == null) {
+            return null;
+        }
+        switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case GZIP:
+            case "x-gzip":
+                return GZIP;
+            case DEFLATE:
+                return DEFLATE;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.filter.compression;
+
+import java.util.Locale;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Server filter negotiating the content coding of a response entity.
+ * <p>
+ * The coding is chosen from the request {@code Accept-Encoding} header, preferring {@code gzip} over {@code deflate}
+ * at equal quality. Responses that are already encoded, or whose media type denotes compressed data, are left alone.
+ * The negotiated coding is passed on to {@link CompressionInterceptor} in the
+ * {@link CompressionInterceptor#ENCODING_PROPERTY} request property.
+ * </p>
+ */
+public class EncodingNegotiationFilter implements ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!responseContext.hasEntity()
+                || responseContext.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)
+                || isCompressed(responseContext.getMediaType())) {
+            return;
+        }
+
+        responseContext.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        final String encoding = negotiate(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding != null) {
+            requestContext.setProperty(CompressionInterceptor.ENCODING_PROPERTY, encoding);
+        }
+    }
+
+    /**
+     * Select a supported content coding acceptable according to an {@code Accept-Encoding} header value.
+     *
+     * @param acceptEncoding header value, may be {@code null}.
+     * @return {@code gzip}, {@code deflate} or {@code null} if the entity is to be sent uncompressed.
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        float gzip = -1;
+        float deflate = -1;
+        float any = -1;
+        for (String element : acceptEncoding.split(",")) {
+            final String[] parts = element.split(";");
+            final String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            final float quality = quality(parts);
+            switch (coding) {
+                case CompressionInterceptor.GZIP:
+                case "x-gzip":
+                    gzip = Math.max(gzip, quality);
+                    break;
+                case CompressionInterceptor.DEFLATE:
+                    deflate = Math.max(deflate, quality);
+                    break;
+                case "*":
+                    any = Math.max(any, quality);
+                    break;
+                default:
+                    break;
+            }
+        }
+        gzip = gzip < 0 ? any : gzip;
+        deflate = deflate < 0 ? any : deflate;
+        if (gzip <= 0 && deflate <= 0) {
+            return null;
+        }
+        return gzip >= deflate ? CompressionInterceptor.GZIP : CompressionInterceptor.DEFLATE;
+    }
+
+    private static float quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q') && parameter.charAt(1) == '=') {
+                try {
+                    return Float.parseFloat(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static boolean isCompressed(MediaType mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+        final String type = mediaType.getType().toLowerCase(Locale.ROOT);
+        final String subtype = mediaType.getSubtype().toLowerCase(Locale.ROOT);
+        switch (type) {
+            case "image":
+                return !subtype.endsWith("+xml");
+            case "audio":
+            case "video":
+                return true;
+            case "application":
+                switch (subtype) {
+                    case "gzip":
+                    case "x-gzip":
+                    case "zip":
+                    case "zstd":
+                    case "x-bzip2":
+                    case "x-7z-compressed":
+                        return true;
+                    default:
+                        return false;
+                }
+            default:
+                return false;
+        }
+    }
+}
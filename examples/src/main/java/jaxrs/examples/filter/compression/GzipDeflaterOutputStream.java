@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.filter.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Gzip output stream using a supplied {@link Deflater}.
+ * <p>
+ * Unlike {@link java.util.zip.GZIPOutputStream}, the deflater is owned by the caller, so that it can be pooled. The
+ * deflater must have been created with {@code nowrap} set to {@code true}. Neither {@link #finish()} nor
+ * {@link #close()} ends the deflater.
+ * </p>
+ */
+class GzipDeflaterOutputStream extends DeflaterOutputStream {
+
+    private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b, // magic
+            Deflater.DEFLATED, // compression method
+            0, // flags
+            0, 0, 0, 0, // modification time
+            0, // extra flags
+            (byte) 0xff // operating system: unknown
+    };
+
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Create a new stream and write the gzip header.
+     *
+     * @param out underlying output stream.
+     * @param deflater deflater producing raw deflate data.
+     * @throws IOException if the header cannot be written.
+     */
+    GzipDeflaterOutputStream(OutputStream out, Deflater deflater) throws IOException {
+        super(out, deflater, 8192);
+        out.write(HEADER);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        super.write(b, off, len);
+        crc.update(b, off, len);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (!def.finished()) {
+            super.finish();
+            writeInt((int) crc.getValue());
+            writeInt((int) def.getBytesRead());
+        }
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >>> 8) & 0xff);
+        out.write((value >>> 16) & 0xff);
+        out.write((value >>> 24) & 0xff);
+    }
+}
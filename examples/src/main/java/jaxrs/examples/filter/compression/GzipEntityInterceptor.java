@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -13,11 +13,12 @@ package jaxrs.examples.filter.compression;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Deflater;
 
 import jakarta.annotation.Priority;
 import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.ext.Provider;
 import jakarta.ws.rs.ext.ReaderInterceptor;
 import jakarta.ws.rs.ext.ReaderInterceptorContext;
@@ -26,6 +27,11 @@ import jakarta.ws.rs.ext.WriterInterceptorContext;
 
 /**
  * Example of GZIP entity interceptor.
+ * <p>
+ * Incoming entities are decoded if their {@code Content-Encoding} is {@code gzip}. Outgoing entities are encoded if
+ * their {@code Content-Encoding} has been set to {@code gzip} or, on the server, if the client accepts {@code gzip}
+ * encoded responses. See {@link CompressionFeature} for a complete, negotiating alternative.
+ * </p>
  *
  * @author Santiago Pericas-Geertsen
  */
@@ -34,13 +40,19 @@ import jakarta.ws.rs.ext.WriterInterceptorContext;
 @Priority(Priorities.ENTITY_CODER)
 public class GzipEntityInterceptor implements ReaderInterceptor, WriterInterceptor {
 
+    @Context
+    private HttpHeaders requestHeaders;
+
     @Override
     public Object aroundReadFrom(ReaderInterceptorContext ctx) throws IOException {
         if (!gzipEncoded(ctx)) {
             return ctx.proceed();
         } else {
             InputStream old = ctx.getInputStream();
-            ctx.setInputStream(new GZIPInputStream(old));
+            // the decoding stream returns its inflater to the pool, as the entity may be consumed after this call returns
+            ctx.setInputStream(PooledInflaterInputStream.decode(old, true));
+            ctx.getHeaders().remove(HttpHeaders.CONTENT_ENCODING);
+            ctx.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
             try {
                 return ctx.proceed();
             } finally {
@@ -55,24 +67,40 @@ public class GzipEntityInterceptor implements ReaderInterceptor, WriterIntercept
             ctx.proceed();
         } else {
             OutputStream old = ctx.getOutputStream();
-            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(old);
+            Deflater deflater = CodecPool.acquireDeflater(true, Deflater.DEFAULT_COMPRESSION);
+            GzipDeflaterOutputStream gzipOutputStream = new GzipDeflaterOutputStream(old, deflater);
             ctx.setOutputStream(gzipOutputStream);
             try {
                 ctx.proceed();
-            } finally {
                 gzipOutputStream.finish();
+            } finally {
                 ctx.setOutputStream(old);
+                CodecPool.release(deflater, true);
             }
         }
     }
 
     private boolean acceptsGzip(WriterInterceptorContext ctx) {
-        // implementation goes here
-        return true;
+        Object contentEncoding = ctx.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (contentEncoding != null) {
+            return "gzip".equalsIgnoreCase(contentEncoding.toString().trim());
+        }
+        // request headers are only injected in the server runtime
+        if (requestHeaders == null) {
+            return false;
+        }
+        ctx.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if ("gzip".equals(EncodingNegotiationFilter.negotiate(requestHeaders.getHeaderString(HttpHeaders.ACCEPT_ENCODING)))) {
+            ctx.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, "gzip");
+            ctx.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+            return true;
+        }
+        return false;
     }
 
     private boolean gzipEncoded(ReaderInterceptorContext ctx) {
-        // implementation goes here
-        return true;
+        String contentEncoding = ctx.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        return contentEncoding != null
+                && ("gzip".equalsIgnoreCase(contentEncoding.trim()) || "x-gzip".equalsIgnoreCase(contentEncoding.trim()));
     }
 }
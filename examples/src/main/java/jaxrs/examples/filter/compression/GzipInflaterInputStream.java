@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.filter.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Gzip input stream using a supplied {@link Inflater}.
+ * <p>
+ * Unlike {@link java.util.zip.GZIPInputStream}, the inflater is owned by the caller, so that it can be pooled. The
+ * inflater must have been created with {@code nowrap} set to {@code true}. Only the first gzip member is decoded, its
+ * trailer is verified against the decoded data.
+ * </p>
+ */
+class GzipInflaterInputStream extends InflaterInputStream {
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final CRC32 crc = new CRC32();
+    private boolean eos;
+
+    /**
+     * Create a new stream and read the gzip header.
+     *
+     * @param in underlying input stream.
+     * @param inflater inflater consuming raw deflate data.
+     * @throws IOException if the header cannot be read or is not a valid gzip header.
+     */
+    GzipInflaterInputStream(InputStream in, Inflater inflater) throws IOException {
+        super(in, inflater, 8192);
+        readHeader(in);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (eos) {
+            return -1;
+        }
+        final int n = super.read(b, off, len);
+        if (n == -1) {
+            readTrailer();
+            eos = true;
+        } else {
+            crc.update(b, off, n);
+        }
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return eos ? 0 : super.available();
+    }
+
+    private void readHeader(InputStream in) throws IOException {
+        if (readUnsignedShort(in) != 0x8b1f) {
+            throw new ZipException("Not in GZIP format");
+        }
+        if (readUnsignedByte(in) != 8) {
+            throw new ZipException("Unsupported compression method");
+        }
+        final int flags = readUnsignedByte(in);
+        skipBytes(in, 6); // modification time, extra flags, operating system
+        if ((flags & FEXTRA) != 0) {
+            skipBytes(in, readUnsignedShort(in));
+        }
+        if ((flags & FNAME) != 0) {
+            while (readUnsignedByte(in) != 0) {
+                // skip zero terminated file name
+            }
+        }
+        if ((flags & FCOMMENT) != 0) {
+            while (readUnsignedByte(in) != 0) {
+                // skip zero terminated comment
+            }
+        }
+        if ((flags & FHCRC) != 0) {
+            skipBytes(in, 2);
+        }
+    }
+
+    private void readTrailer() throws IOException {
+        // the inflater may have consumed part of the trailer into the input buffer already
+        final int remaining = inf.getRemaining();
+        final InputStream trailer = remaining > 0
+                ? new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining), in)
+                : in;
+        if (readUnsignedInt(trailer) != crc.getValue()
+                || readUnsignedInt(trailer) != (inf.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+    }
+
+    private static long readUnsignedInt(InputStream in) throws IOException {
+        final long low = readUnsignedShort(in);
+        return ((long) readUnsignedShort(in) << 16) | low;
+    }
+
+    private static int readUnsignedShort(InputStream in) throws IOException {
+        final int low = readUnsignedByte(in);
+        return (readUnsignedByte(in) << 8) | low;
+    }
+
+    private static int readUnsignedByte(InputStream in) throws IOException {
+        final int b = in.read();
+        if (b == -1) {
+            throw new EOFException("Unexpected end of GZIP stream");
+        }
+        return b;
+    }
+
+    private static void skipBytes(InputStream in, int n) throws IOException {
+        for (int i = 0; i < n; i++) {
+            readUnsignedByte(in);
+        }
+    }
+}
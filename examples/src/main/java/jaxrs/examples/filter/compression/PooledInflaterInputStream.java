@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxrs.examples.filter.compression;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Input stream decoding an entity using an {@link Inflater} acquired from the {@link CodecPool}.
+ * <p>
+ * The stream owns the inflater and returns it to the pool once the decoded entity has been read to its end or the stream
+ * has been closed, whichever happens first. This holds regardless of the entity type the stream is read into, so the
+ * inflater is not returned while a lazily consumed entity, such as an {@code InputStream}, a
+ * {@code Flow.Publisher<ByteBuffer>} or a {@code ReadableByteChannel}, is still being read after the reader interceptor
+ * has returned. An inflater that does not fit into the pool is released using {@link Inflater#end()}.
+ * </p>
+ */
+class PooledInflaterInputStream extends FilterInputStream {
+
+    private final Inflater inflater;
+    private final boolean nowrap;
+    private boolean released;
+
+    private PooledInflaterInputStream(InflaterInputStream in, Inflater inflater, boolean nowrap) {
+        super(in);
+        this.inflater = inflater;
+        this.nowrap = nowrap;
+    }
+
+    /**
+     * Create a stream decoding {@code gzip} or {@code deflate} encoded data.
+     *
+     * @param in encoded input stream.
+     * @param nowrap {@code true} for {@code gzip}, {@code false} for {@code deflate} encoded data.
+     * @return decoding stream.
+     * @throws IOException if the gzip header cannot be read.
+     */
+    static PooledInflaterInputStream decode(InputStream in, boolean nowrap) throws IOException {
+        final Inflater inflater = CodecPool.acquireInflater(nowrap);
+        try {
+            return new PooledInflaterInputStream(
+                    nowrap ? new GzipInflaterInputStream(in, inflater) : new InflaterInputStream(in, inflater), inflater, nowrap);
+        } catch (IOException | RuntimeException e) {
+            CodecPool.release(inflater, nowrap);
+            throw e;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (released) {
+            return -1;
+        }
+        final int b = in.read();
+        if (b == -1) {
+            release();
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (released) {
+            return -1;
+        }
+        final int n = in.read(b, off, len);
+        if (n == -1) {
+            release();
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        return released ? 0 : in.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return released ? 0 : in.available();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            in.close();
+        } finally {
+            release();
+        }
+    }
+
+    private void release() {
+        if (!released) {
+            released = true;
+            CodecPool.release(inflater, nowrap);
+        }
+    }
+}
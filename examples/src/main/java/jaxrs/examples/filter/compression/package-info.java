@@ -1,4 +1,4 @@
 /**
- * Client compression examples.
+ * Client and server compression examples.
  */
 package jaxrs.examples.filter.compression;
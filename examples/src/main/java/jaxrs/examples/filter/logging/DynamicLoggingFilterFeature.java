@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,7 +10,7 @@
 
 package jaxrs.examples.filter.logging;
 
-import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.container.DynamicFeature;
 import jakarta.ws.rs.container.ResourceInfo;
 import jakarta.ws.rs.core.FeatureContext;
@@ -30,7 +30,7 @@ public final class DynamicLoggingFilterFeature implements DynamicFeature {
     @Override
     public void configure(ResourceInfo resourceInfo, FeatureContext context) {
         if (MyResourceClass.class.isAssignableFrom(resourceInfo.getResourceClass())
-                && resourceInfo.getResourceMethod().isAnnotationPresent(GET.class)) {
+                && HttpMethod.GET.equals(resourceInfo.getResourceMetadata().getHttpMethod())) {
             context.register(new LoggingFilter());
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,6 +11,7 @@
 package jaxrs.examples.filter.logging;
 
 import java.io.IOException;
+import java.util.logging.Logger;
 
 import jakarta.annotation.Priority;
 import jakarta.ws.rs.Priorities;
@@ -18,6 +19,9 @@ import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.container.ContainerResponseContext;
 import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.container.ResourceMetadata;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.ext.Provider;
 
 /**
@@ -31,6 +35,11 @@ import jakarta.ws.rs.ext.Provider;
 @Priority(Priorities.USER)
 public class LoggingFilter implements ContainerRequestFilter, ContainerResponseFilter {
 
+    private static final Logger LOGGER = Logger.getLogger(LoggingFilter.class.getName());
+
+    @Context
+    private ResourceInfo resourceInfo;
+
     @Override
     public void filter(ContainerRequestContext requestContext) throws IOException {
         log(requestContext);
@@ -41,11 +50,23 @@ public class LoggingFilter implements ContainerRequestFilter, ContainerResponseF
         log(responseContext);
     }
 
-    private static void log(ContainerRequestContext context) {
-        // implementation goes here
+    // resource metadata is resolved once per resource method, no reflection per request; it is not available for
+    // requests that have not been matched to a resource method
+    private void log(ContainerRequestContext context) {
+        final ResourceMetadata metadata = resourceInfo.getResourceMetadata();
+        if (metadata == null) {
+            LOGGER.info(() -> context.getMethod() + " " + context.getUriInfo().getPath());
+        } else {
+            LOGGER.info(() -> metadata.getHttpMethod() + " " + metadata.getPathTemplate() + " <- " + context.getUriInfo().getPath());
+        }
     }
 
-    private static void log(ContainerResponseContext context) {
-        // implementation goes here
+    private void log(ContainerResponseContext context) {
+        final ResourceMetadata metadata = resourceInfo.getResourceMetadata();
+        if (metadata == null) {
+            LOGGER.info(() -> String.valueOf(context.getStatus()));
+        } else {
+            LOGGER.info(() -> metadata.getHttpMethod() + " " + metadata.getPathTemplate() + " -> " + context.getStatus());
+        }
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.ws.rs;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the size of request entities accepted by a resource method. Using this annotation on a class limits the size
+ * of request entities of all resource and sub-resource methods of the class; an annotation on a method takes precedence
+ * over an annotation on its class.
+ * <p>
+ * The limit is enforced by the JAX-RS runtime before a request entity is read:
+ * </p>
+ * <ul>
+ * <li>A request declaring a {@code Content-Length} exceeding the limit is rejected with a
+ * {@link jakarta.ws.rs.core.Response.Status#REQUEST_ENTITY_TOO_LARGE 413 (Request Entity Too Large)} response without
+ * reading any of the request entity, as soon as the resource method has been matched.</li>
+ * <li>For a request without a {@code Content-Length}, e.g. using chunked transfer coding, the stream returned by
+ * {@link jakarta.ws.rs.container.ContainerRequestContext#getEntityStream()} throws a {@link ClientErrorException} with
+ * status {@code 413} as soon as more bytes than the limit have been read from it. Likewise, the
+ * {@link jakarta.ws.rs.container.ContainerRequestContext#getEntityPublisher() entity publisher} signals such an
+ * exception to its subscriber. Request entities are therefore never buffered beyond the limit.</li>
+ * <li>The limit applies to the decoded entity as well: the stream a {@link jakarta.ws.rs.ext.MessageBodyReader} reads
+ * the entity from, i.e. the {@link jakarta.ws.rs.ext.ReaderInterceptorContext#getInputStream() input stream} left by
+ * the reader interceptors, throws the same exception as soon as more bytes than the limit have been read from it. An
+ * entity expanded by a content decoding interceptor, e.g. a {@code gzip} decoder, thus cannot exceed the limit either,
+ * without the interceptor having to enforce it.</li>
+ * </ul>
+ * <p>
+ * A limit of {@code 0} accepts empty request entities only. Negative values other than {@link #UNLIMITED}, in the
+ * annotation or in the application property, are invalid and MUST be reported as a deployment error.
+ * </p>
+ * <p>
+ * Entity providers and reader interceptors must not suppress the exception thrown by the entity stream. A limit applying to all resource
+ * methods of an application can be set using the {@link #APPLICATION_PROPERTY} application property; resource methods
+ * without this annotation are otherwise not limited.
+ * </p>
+ *
+ * <pre>
+ * &#64;POST
+ * &#64;MaxEntitySize(64 * 1024)
+ * &#64;Consumes(MediaType.APPLICATION_JSON)
+ * public void createOrder(Order order) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @see jakarta.ws.rs.core.Application#getProperties()
+ * @since 5.0
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface MaxEntitySize {
+
+    /**
+     * Name of the application property setting the default maximum request entity size, in bytes, of resource methods
+     * not annotated with {@code MaxEntitySize}. The value may be supplied as a {@link Number} or as a {@link String}
+     * parsable to a {@code long}.
+     */
+    String APPLICATION_PROPERTY = "jakarta.ws.rs.MaxEntitySize";
+
+    /**
+     * Value disabling the limit, e.g. for a resource method accepting uploads in an application setting a default limit.
+     */
+    long UNLIMITED = -1;
+
+    /**
+     * Maximum size of a request entity in bytes, both as received and once decoded, or {@link #UNLIMITED}.
+     *
+     * @return maximum request entity size in bytes.
+     */
+    long value();
+}
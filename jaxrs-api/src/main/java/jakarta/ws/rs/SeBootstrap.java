@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018 Markus KARG. All rights reserved.
+ * Copyright (c) 2018, 2026 Markus KARG. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -25,6 +25,7 @@ import java.util.function.Consumer;
 import javax.net.ssl.SSLContext;
 
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpVersion;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.ext.RuntimeDelegate;
 
@@ -297,6 +298,44 @@ public interface SeBootstrap {
          */
         String SSL_CLIENT_AUTHENTICATION = "jakarta.ws.rs.SeBootstrap.SSLClientAuthentication";
 
+        /**
+         * Configuration key for the HTTP protocol version an application is served with.
+         * <p>
+         * A compliant implementation MUST accept {@link HttpVersion} enums. Implementations not supporting HTTP/2 MUST treat
+         * all values as {@link HttpVersion#HTTP_1_1}.
+         * </p>
+         * <p>
+         * The default value is {@code HttpVersion#HTTP_1_1}.
+         * </p>
+         *
+         * @since 5.0
+         */
+        String HTTP_VERSION = "jakarta.ws.rs.SeBootstrap.HttpVersion";
+
+        /**
+         * Configuration key for the maximum number of concurrent HTTP/2 streams per connection, advertised to clients in the
+         * {@code SETTINGS_MAX_CONCURRENT_STREAMS} setting.
+         * <p>
+         * A compliant implementation MUST accept {@code java.lang.Integer} values. The default value is implementation
+         * specific.
+         * </p>
+         *
+         * @since 5.0
+         */
+        String HTTP2_MAX_CONCURRENT_STREAMS = "jakarta.ws.rs.SeBootstrap.Http2MaxConcurrentStreams";
+
+        /**
+         * Configuration key for the initial HTTP/2 flow-control window size in bytes, advertised to clients in the
+         * {@code SETTINGS_INITIAL_WINDOW_SIZE} setting.
+         * <p>
+         * A compliant implementation MUST accept {@code java.lang.Integer} values. The default value is implementation
+         * specific.
+         * </p>
+         *
+         * @since 5.0
+         */
+        String HTTP2_INITIAL_WINDOW_SIZE = "jakarta.ws.rs.SeBootstrap.Http2InitialWindowSize";
+
         /**
          * Secure socket client authentication policy
          *
@@ -462,6 +501,51 @@ public interface SeBootstrap {
             return (SSLClientAuthentication) property(SSL_CLIENT_AUTHENTICATION);
         }
 
+        /**
+         * Convenience method to get the HTTP protocol version to be used.
+         * <p>
+         * Same as if calling {@link #property(String) (HttpVersion) property(HTTP_VERSION)}.
+         * </p>
+         *
+         * @return HTTP protocol version, e. g. {@code HTTP_2}.
+         * @throws ClassCastException if httpVersion is not a {@link HttpVersion}.
+         * @see SeBootstrap.Configuration#HTTP_VERSION
+         * @since 5.0
+         */
+        default HttpVersion httpVersion() {
+            return (HttpVersion) property(HTTP_VERSION);
+        }
+
+        /**
+         * Convenience method to get the maximum number of concurrent HTTP/2 streams per connection.
+         * <p>
+         * Same as if calling {@link #property(String) (Integer) property(HTTP2_MAX_CONCURRENT_STREAMS)}.
+         * </p>
+         *
+         * @return maximum number of concurrent streams, or {@code null} if not configured.
+         * @throws ClassCastException if http2MaxConcurrentStreams is not an {@code Integer}.
+         * @see SeBootstrap.Configuration#HTTP2_MAX_CONCURRENT_STREAMS
+         * @since 5.0
+         */
+        default Integer http2MaxConcurrentStreams() {
+            return (Integer) property(HTTP2_MAX_CONCURRENT_STREAMS);
+        }
+
+        /**
+         * Convenience method to get the initial HTTP/2 flow-control window size.
+         * <p>
+         * Same as if calling {@link #property(String) (Integer) property(HTTP2_INITIAL_WINDOW_SIZE)}.
+         * </p>
+         *
+         * @return initial window size in bytes, or {@code null} if not configured.
+         * @throws ClassCastException if http2InitialWindowSize is not an {@code Integer}.
+         * @see SeBootstrap.Configuration#HTTP2_INITIAL_WINDOW_SIZE
+         * @since 5.0
+         */
+        default Integer http2InitialWindowSize() {
+            return (Integer) property(HTTP2_INITIAL_WINDOW_SIZE);
+        }
+
         /**
          * Returns a {@link UriBuilder} that includes the application root path.
          *
@@ -613,6 +697,51 @@ public interface SeBootstrap {
                 return property(SSL_CLIENT_AUTHENTICATION, sslClientAuthentication);
             }
 
+            /**
+             * Convenience method to set the HTTP protocol version to be used.
+             * <p>
+             * Same as if calling {@link #property(String, Object) property(HTTP_VERSION, value)}.
+             * </p>
+             *
+             * @param httpVersion HTTP protocol version of this configuration, or {@code null} to use the default value.
+             * @return the updated builder.
+             * @see SeBootstrap.Configuration#HTTP_VERSION
+             * @since 5.0
+             */
+            default Builder httpVersion(HttpVersion httpVersion) {
+                return property(HTTP_VERSION, httpVersion);
+            }
+
+            /**
+             * Convenience method to set the maximum number of concurrent HTTP/2 streams per connection.
+             * <p>
+             * Same as if calling {@link #property(String, Object) property(HTTP2_MAX_CONCURRENT_STREAMS, value)}.
+             * </p>
+             *
+             * @param maxConcurrentStreams maximum number of concurrent streams, or {@code null} to use the default value.
+             * @return the updated builder.
+             * @see SeBootstrap.Configuration#HTTP2_MAX_CONCURRENT_STREAMS
+             * @since 5.0
+             */
+            default Builder http2MaxConcurrentStreams(Integer maxConcurrentStreams) {
+                return property(HTTP2_MAX_CONCURRENT_STREAMS, maxConcurrentStreams);
+            }
+
+            /**
+             * Convenience method to set the initial HTTP/2 flow-control window size.
+             * <p>
+             * Same as if calling {@link #property(String, Object) property(HTTP2_INITIAL_WINDOW_SIZE, value)}.
+             * </p>
+             *
+             * @param initialWindowSize initial window size in bytes, or {@code null} to use the default value.
+             * @return the updated builder.
+             * @see SeBootstrap.Configuration#HTTP2_INITIAL_WINDOW_SIZE
+             * @since 5.0
+             */
+            default Builder http2InitialWindowSize(Integer initialWindowSize) {
+                return property(HTTP2_INITIAL_WINDOW_SIZE, initialWindowSize);
+            }
+
             /**
              * Convenience method for bulk-loading configuration from a property supplier.
              * <p>
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable policy controlling how a batch of invocations submitted via
+ * {@link Client#invokeAll(java.util.Collection, BatchPolicy)} is executed.
+ * <p>
+ * A policy consists of a {@link Mode failure mode}, a timeout shared by all invocations of the batch and a cap on the
+ * number of invocations of the batch that may be in flight at the same time. Policies are created using one of the
+ * static factory methods and refined using the {@code with...} methods, each of which returns a new policy instance:
+ * </p>
+ *
+ * <pre>
+ * BatchPolicy policy = BatchPolicy.cancelOnFailure()
+ *         .withTimeout(250, TimeUnit.MILLISECONDS)
+ *         .withMaxConcurrency(16);
+ * </pre>
+ *
+ * @see Client#invokeAll(java.util.Collection, BatchPolicy)
+ * @since 5.0
+ */
+public final class BatchPolicy {
+
+    /**
+     * Failure handling mode of a batch.
+     */
+    public enum Mode {
+
+        /**
+         * All invocations of the batch are executed to completion, regardless of failures of other invocations of the same
+         * batch.
+         */
+        COLLECT_ALL,
+
+        /**
+         * The first failing invocation causes all outstanding invocations of the batch to be cancelled.
+         */
+        CANCEL_ON_FAILURE
+    }
+
+    private static final BatchPolicy COLLECT_ALL = new BatchPolicy(Mode.COLLECT_ALL, 0L, Integer.MAX_VALUE);
+
+    private static final BatchPolicy CANCEL_ON_FAILURE = new BatchPolicy(Mode.CANCEL_ON_FAILURE, 0L, Integer.MAX_VALUE);
+
+    private final Mode mode;
+    private final long timeoutNanos;
+    private final int maxConcurrency;
+
+    private BatchPolicy(final Mode mode, final long timeoutNanos, final int maxConcurrency) {
+        this.mode = mode;
+        this.timeoutNanos = timeoutNanos;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Get a policy in {@link Mode#COLLECT_ALL} mode with no timeout and unbounded concurrency.
+     *
+     * @return policy executing all invocations of a batch to completion.
+     */
+    public static BatchPolicy collectAll() {
+        return COLLECT_ALL;
+    }
+
+    /**
+     * Get a policy in {@link Mode#CANCEL_ON_FAILURE} mode with no timeout and unbounded concurrency.
+     *
+     * @return policy cancelling outstanding invocations of a batch on the first failure.
+     */
+    public static BatchPolicy cancelOnFailure() {
+        return CANCEL_ON_FAILURE;
+    }
+
+    /**
+     * Create a copy of this policy using the supplied timeout shared by all invocations of the batch.
+     * <p>
+     * Value {@code 0} represents infinity. Negative values are not allowed.
+     * </p>
+     *
+     * @param timeout the maximum time to wait for the whole batch to complete.
+     * @param unit the time unit of the timeout argument.
+     * @return new policy with the supplied timeout.
+     * @throws IllegalArgumentException when the value is negative.
+     * @throws NullPointerException in case the {@code unit} parameter is {@code null}.
+     */
+    public BatchPolicy withTimeout(final long timeout, final TimeUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        if (timeout < 0) {
+            throw new IllegalArgumentException("Negative timeout.");
+        }
+        return new BatchPolicy(mode, unit.toNanos(timeout), maxConcurrency);
+    }
+
+    /**
+     * Create a copy of this policy limiting the number of invocations of the batch that may be in flight at the same time.
+     *
+     * @param maxConcurrency maximum number of concurrently executed invocations, must be positive.
+     * @return new policy with the supplied concurrency cap.
+     * @throws IllegalArgumentException when the value is not positive.
+     */
+    public BatchPolicy withMaxConcurrency(final int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Maximum concurrency must be positive.");
+        }
+        return new BatchPolicy(mode, timeoutNanos, maxConcurrency);
+    }
+
+    /**
+     * Get the failure handling mode.
+     *
+     * @return failure handling mode, never {@code null}.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Get the timeout shared by all invocations of the batch.
+     *
+     * @param unit the time unit to convert the timeout to.
+     * @return timeout in the requested unit, {@code 0} if no timeout is set.
+     */
+    public long getTimeout(final TimeUnit unit) {
+        return unit.convert(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the maximum number of invocations of the batch that may be in flight at the same time.
+     *
+     * @return concurrency cap, {@link Integer#MAX_VALUE} if unbounded.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (!(obj instanceof BatchPolicy)) {
+            return false;
+        }
+
+        final BatchPolicy other = (BatchPolicy) obj;
+        return mode == other.mode && timeoutNanos == other.timeoutNanos && maxConcurrency == other.maxConcurrency;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, timeoutNanos, maxConcurrency);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchPolicy{mode=" + mode + ", timeoutNanos=" + timeoutNanos + ", maxConcurrency=" + maxConcurrency + "}";
+    }
+}
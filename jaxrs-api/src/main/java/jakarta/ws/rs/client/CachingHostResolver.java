@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * TTL-aware caching {@link HostResolver} decorator.
+ *
+ * @see HostResolver#caching(HostResolver, Duration)
+ * @since 5.0
+ */
+final class CachingHostResolver implements HostResolver {
+
+    private final HostResolver delegate;
+    private final long maxTtlNanos;
+    private final ConcurrentMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+    CachingHostResolver(final HostResolver delegate, final Duration maxTtl) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        if (maxTtl.isNegative()) {
+            throw new IllegalArgumentException("Negative maximum time to live.");
+        }
+        this.maxTtlNanos = toNanos(maxTtl);
+    }
+
+    @Override
+    public CompletionStage<Resolution> resolve(final String host) {
+        final String key = host.toLowerCase(Locale.ROOT);
+        final long now = System.nanoTime();
+        final Entry entry = cache.compute(key, (k, current) -> current == null || current.isExpired(now) ? new Entry() : current);
+        if (entry.started.compareAndSet(false, true)) {
+            start(key, host, entry);
+        }
+        return entry.resolution.minimalCompletionStage();
+    }
+
+    private void start(final String key, final String host, final Entry entry) {
+        final CompletionStage<Resolution> stage;
+        try {
+            stage = Objects.requireNonNull(delegate.resolve(host), "resolution");
+        } catch (final RuntimeException e) {
+            fail(key, entry, e);
+            return;
+        }
+        stage.whenComplete((resolution, failure) -> {
+            if (failure != null) {
+                fail(key, entry, failure);
+            } else if (resolution == null) {
+                fail(key, entry, new NullPointerException("resolution"));
+            } else {
+                entry.ttlNanos = Math.min(maxTtlNanos, toNanos(resolution.getTtl()));
+                entry.resolvedAt = System.nanoTime();
+                entry.resolved = true;
+                entry.resolution.complete(resolution);
+            }
+        });
+    }
+
+    private void fail(final String key, final Entry entry, final Throwable failure) {
+        cache.remove(key, entry);
+        entry.resolution.completeExceptionally(failure);
+    }
+
+    private static long toNanos(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<Resolution> resolution = new CompletableFuture<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile long ttlNanos;
+        private volatile long resolvedAt;
+        private volatile boolean resolved;
+
+        private boolean isExpired(final long now) {
+            // pending resolutions are shared, failed ones are removed from the cache
+            return resolved && now - resolvedAt >= ttlNanos;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,12 +17,16 @@
 package jakarta.ws.rs.client;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 
 import jakarta.ws.rs.core.Configurable;
 import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 
 /**
@@ -103,6 +107,118 @@ public interface Client extends Configurable<Client>, AutoCloseable {
      */
     public Invocation.Builder invocation(Link link);
 
+    /**
+     * Submit a batch of invocations for asynchronous execution using the {@link BatchPolicy#collectAll() collect-all}
+     * policy.
+     * <p>
+     * This is a convenience method for {@code invokeAll(invocations, BatchPolicy.collectAll())}.
+     * </p>
+     *
+     * @param invocations invocations built by this client. Must not be {@code null}.
+     * @return completion stage of the responses, in the iteration order of the supplied collection.
+     * @throws NullPointerException in case the supplied collection is {@code null}.
+     * @see #invokeAll(Collection, BatchPolicy)
+     * @since 5.0
+     */
+    public default CompletionStage<List<Response>> invokeAll(Collection<? extends Invocation> invocations) {
+        return invokeAll(invocations, BatchPolicy.collectAll());
+    }
+
+    /**
+     * Submit a batch of invocations for asynchronous execution.
+     * <p>
+     * All invocations of the batch share the {@link BatchPolicy#getTimeout(java.util.concurrent.TimeUnit) timeout} of the
+     * supplied policy, measured from the moment this method is called. No more than
+     * {@link BatchPolicy#getMaxConcurrency() maximum concurrency} invocations of the batch are in flight at any time; the
+     * remaining invocations are started as the in-flight ones complete. Implementations are free to pipeline or multiplex
+     * the invocations of a batch over pooled connections, as long as each invocation passes through the filter and
+     * interceptor chains of the client as if it had been submitted on its own.
+     * </p>
+     * <p>
+     * The returned stage completes with the list of responses, in the iteration order of the supplied collection, once all
+     * invocations have completed successfully. Otherwise it completes exceptionally:
+     * </p>
+     * <ul>
+     * <li>In {@link BatchPolicy.Mode#CANCEL_ON_FAILURE} mode, the first failure cancels all outstanding invocations and is
+     * used to complete the returned stage.</li>
+     * <li>In {@link BatchPolicy.Mode#COLLECT_ALL} mode, the returned stage completes once all invocations have completed,
+     * using the first failure, with failures of any other invocations added as {@link Throwable#getSuppressed() suppressed}
+     * exceptions.</li>
+     * <li>If the timeout expires, outstanding invocations are cancelled and the returned stage completes with a
+     * {@link jakarta.ws.rs.ProcessingException} having a {@link java.util.concurrent.TimeoutException} as its cause.</li>
+     * </ul>
+     * <p>
+     * Whenever the returned stage completes exceptionally, responses already received for other invocations of the batch are
+     * closed. Cancelling the {@link CompletionStage#toCompletableFuture() future} of the returned stage cancels all
+     * outstanding invocations of the batch. Failures are reported the same way as by {@link Invocation#submit()}.
+     * </p>
+     *
+     * @param invocations invocations built by this client. Must not be {@code null}.
+     * @param policy execution policy of the batch. Must not be {@code null}.
+     * @return completion stage of the responses, in the iteration order of the supplied collection.
+     * @throws NullPointerException in case any of the supplied parameters is {@code null}.
+     * @throws IllegalArgumentException in case any of the supplied invocations has not been built by this client.
+     * @since 5.0
+     */
+    public CompletionStage<List<Response>> invokeAll(Collection<? extends Invocation> invocations, BatchPolicy policy);
+
+    /**
+     * Asynchronously pre-establish a single connection to each origin of the supplied targets.
+     * <p>
+     * This is a convenience method for {@code warmup(1, targets)}.
+     * </p>
+     *
+     * @param targets URIs identifying the origins to connect to. Must not be {@code null}.
+     * @return completion stage completing once the connections have been established.
+     * @throws NullPointerException in case the supplied array or any of its elements is {@code null}.
+     * @see #warmup(int, URI...)
+     * @since 5.0
+     */
+    public default CompletionStage<Void> warmup(URI... targets) {
+        return warmup(1, targets);
+    }
+
+    /**
+     * Asynchronously pre-establish pooled connections to each origin of the supplied targets.
+     * <p>
+     * Only the scheme, host and port of each target URI are used; targets sharing the same origin are connected to once.
+     * For each origin, the implementation resolves the host name, opens up to {@code connections} connections, performs
+     * the TLS handshake for {@code https} origins so that subsequent handshakes can resume the TLS session, and adds the
+     * connections to the connection pool of this client, so that subsequent invocations do not pay the connection setup
+     * cost. No HTTP request is sent and no filters or interceptors are invoked. Implementations MAY open fewer
+     * connections, e.g. if the connection pool is smaller or a single multiplexed HTTP/2 connection suffices, and
+     * implementations without a connection pool MAY complete the returned stage right away.
+     * </p>
+     * <p>
+     * The returned stage completes normally once all connections have been established, which allows readiness probes to
+     * wait for the client to be warmed up, or exceptionally with a {@link jakarta.ws.rs.ProcessingException} if any of the
+     * origins could not be connected to. Connections established to other origins remain pooled in that case.
+     * </p>
+     *
+     * @param connections number of connections to establish per origin, must be positive.
+     * @param targets URIs identifying the origins to connect to. Must not be {@code null}.
+     * @return completion stage completing once the connections have been established.
+     * @throws NullPointerException in case the supplied array or any of its elements is {@code null}.
+     * @throws IllegalArgumentException in case the number of connections is not positive or any of the targets is not an
+     * absolute URI.
+     * @since 5.0
+     */
+    public CompletionStage<Void> warmup(int connections, URI... targets);
+
+    /**
+     * Get the number of asynchronous invocations of this client currently in flight.
+     * <p>
+     * An asynchronous invocation is in flight from the moment it is submitted until its response has been received or it
+     * has failed. The returned value is a momentary snapshot intended for monitoring; it may be outdated by the time it is
+     * returned.
+     * </p>
+     *
+     * @return number of in-flight asynchronous invocations.
+     * @see ClientBuilder#maxInFlight(int, ClientBuilder.OverflowPolicy)
+     * @since 5.0
+     */
+    public int getInFlightCount();
+
     /**
      * Get the SSL context configured to be used with the current client run-time.
      *
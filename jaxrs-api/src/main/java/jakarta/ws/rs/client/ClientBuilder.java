@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,6 +20,7 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import java.net.URL;
 import java.security.KeyStore;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -28,6 +29,7 @@ import java.util.concurrent.TimeoutException;
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.core.Configurable;
 import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.HttpVersion;
 
 /**
  * Main entry point to the client API used to bootstrap {@link jakarta.ws.rs.client.Client} instances.
@@ -43,6 +45,93 @@ public abstract class ClientBuilder implements Configurable<ClientBuilder> {
      */
     public static final String JAXRS_DEFAULT_CLIENT_BUILDER_PROPERTY = "jakarta.ws.rs.client.ClientBuilder";
 
+    /**
+     * Name of the configuration property holding the {@link HttpVersion HTTP protocol version} used by the client.
+     *
+     * @see #httpVersion(HttpVersion)
+     * @since 5.0
+     */
+    public static final String HTTP_VERSION_PROPERTY = "jakarta.ws.rs.client.HttpVersion";
+
+    /**
+     * Name of the configuration property holding the maximum number of concurrent HTTP/2 streams per connection.
+     *
+     * @see #http2MaxConcurrentStreams(int)
+     * @since 5.0
+     */
+    public static final String HTTP2_MAX_CONCURRENT_STREAMS_PROPERTY = "jakarta.ws.rs.client.Http2MaxConcurrentStreams";
+
+    /**
+     * Name of the configuration property holding the initial HTTP/2 flow-control window size in bytes.
+     *
+     * @see #http2InitialWindowSize(int)
+     * @since 5.0
+     */
+    public static final String HTTP2_INITIAL_WINDOW_SIZE_PROPERTY = "jakarta.ws.rs.client.Http2InitialWindowSize";
+
+    /**
+     * Name of the configuration property holding the maximum number of asynchronous invocations of a client that may be
+     * in flight at the same time.
+     *
+     * @see #maxInFlight(int, OverflowPolicy)
+     * @since 5.0
+     */
+    public static final String MAX_IN_FLIGHT_PROPERTY = "jakarta.ws.rs.client.MaxInFlight";
+
+    /**
+     * Name of the configuration property holding the {@link OverflowPolicy} applied once the maximum number of in-flight
+     * asynchronous invocations is reached.
+     *
+     * @see #maxInFlight(int, OverflowPolicy)
+     * @since 5.0
+     */
+    public static final String IN_FLIGHT_OVERFLOW_POLICY_PROPERTY = "jakarta.ws.rs.client.InFlightOverflowPolicy";
+
+    /**
+     * Name of the configuration property holding the {@link HostResolver} used by the client.
+     *
+     * @see #resolver(HostResolver)
+     * @since 5.0
+     */
+    public static final String HOST_RESOLVER_PROPERTY = "jakarta.ws.rs.client.HostResolver";
+
+    /**
+     * Name of the configuration property holding the {@link HostResolver.AddressSelection} used by the client.
+     *
+     * @see #addressSelection(HostResolver.AddressSelection)
+     * @since 5.0
+     */
+    public static final String ADDRESS_SELECTION_PROPERTY = "jakarta.ws.rs.client.AddressSelection";
+
+    /**
+     * Policy applied to an asynchronous invocation submitted while the {@link #maxInFlight(int, OverflowPolicy) maximum
+     * number of in-flight invocations} of the client is reached.
+     *
+     * @since 5.0
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The submitting thread is blocked until another invocation completes. If the thread is interrupted while waiting,
+         * the submitting method throws a {@link ProcessingException} and the thread's interrupt status is set.
+         */
+        BLOCK,
+
+        /**
+         * The submitting method throws a {@link ProcessingException} caused by a
+         * {@link java.util.concurrent.RejectedExecutionException}.
+         */
+        FAIL_FAST,
+
+        /**
+         * The submitting method returns a {@link java.util.concurrent.Future} or
+         * {@link java.util.concurrent.CompletionStage} completed exceptionally with a {@link ProcessingException} caused by
+         * a {@link java.util.concurrent.RejectedExecutionException}, and an {@link InvocationCallback} passed to it is
+         * {@link InvocationCallback#failed(Throwable) notified} of that exception. The request is not sent.
+         */
+        FAILED_FUTURE
+    }
+
     /**
      * Allows custom implementations to extend the {@code ClientBuilder} class.
      */
@@ -266,6 +355,138 @@ public abstract class ClientBuilder implements Configurable<ClientBuilder> {
      */
     public abstract ClientBuilder readTimeout(long timeout, TimeUnit unit);
 
+    /**
+     * Set the HTTP protocol version used by the client.
+     * <p>
+     * With {@link HttpVersion#HTTP_2} or {@link HttpVersion#HTTP_2_PRIOR_KNOWLEDGE}, invocations to the same origin are
+     * multiplexed as concurrent streams over a shared connection instead of each occupying a pooled connection, so that
+     * many concurrent invocations can be served by a handful of connections. Implementations not supporting HTTP/2 use
+     * HTTP/1.1 regardless of this setting. The default is {@link HttpVersion#HTTP_1_1}.
+     * </p>
+     * <p>
+     * The default implementation sets the {@link #HTTP_VERSION_PROPERTY} property.
+     * </p>
+     *
+     * @param version HTTP protocol version. Must not be {@code null}.
+     * @return an updated client builder instance.
+     * @throws NullPointerException in case the version is {@code null}.
+     * @since 5.0
+     */
+    public ClientBuilder httpVersion(final HttpVersion version) {
+        return property(HTTP_VERSION_PROPERTY, Objects.requireNonNull(version, "version"));
+    }
+
+    /**
+     * Set the maximum number of concurrent HTTP/2 streams per connection.
+     * <p>
+     * The client opens an additional connection to an origin once this number of invocations, or the lower limit
+     * advertised by the server, is in flight on each existing connection. The default value is implementation specific.
+     * </p>
+     * <p>
+     * The default implementation sets the {@link #HTTP2_MAX_CONCURRENT_STREAMS_PROPERTY} property.
+     * </p>
+     *
+     * @param maxConcurrentStreams maximum number of concurrent streams per connection, must be positive.
+     * @return an updated client builder instance.
+     * @throws IllegalArgumentException when the value is not positive.
+     * @since 5.0
+     */
+    public ClientBuilder http2MaxConcurrentStreams(final int maxConcurrentStreams) {
+        if (maxConcurrentStreams < 1) {
+            throw new IllegalArgumentException("Maximum concurrent streams must be positive.");
+        }
+        return property(HTTP2_MAX_CONCURRENT_STREAMS_PROPERTY, maxConcurrentStreams);
+    }
+
+    /**
+     * Set the initial HTTP/2 flow-control window size advertised by the client in the {@code SETTINGS_INITIAL_WINDOW_SIZE}
+     * setting.
+     * <p>
+     * Larger windows allow a server to send more response data per stream before waiting for the client to consume it.
+     * The default value is implementation specific.
+     * </p>
+     * <p>
+     * The default implementation sets the {@link #HTTP2_INITIAL_WINDOW_SIZE_PROPERTY} property.
+     * </p>
+     *
+     * @param initialWindowSize initial window size in bytes, must be positive.
+     * @return an updated client builder instance.
+     * @throws IllegalArgumentException when the value is not positive.
+     * @since 5.0
+     */
+    public ClientBuilder http2InitialWindowSize(final int initialWindowSize) {
+        if (initialWindowSize < 1) {
+            throw new IllegalArgumentException("Initial window size must be positive.");
+        }
+        return property(HTTP2_INITIAL_WINDOW_SIZE_PROPERTY, initialWindowSize);
+    }
+
+    /**
+     * Cap the number of asynchronous invocations of the client that may be in flight at the same time.
+     * <p>
+     * The cap applies to all invocations submitted via {@link AsyncInvoker}, {@link Invocation#submit()} and its
+     * overloads, and reactive invokers of clients built by this builder. An invocation is in flight from the moment it is
+     * submitted until its response has been received or it has failed; the current count is available from
+     * {@link Client#getInFlightCount()}. An invocation submitted while the cap is reached is handled according to the
+     * supplied overflow policy. By default, the number of in-flight invocations is not limited.
+     * </p>
+     * <p>
+     * The default implementation sets the {@link #MAX_IN_FLIGHT_PROPERTY} and {@link #IN_FLIGHT_OVERFLOW_POLICY_PROPERTY}
+     * properties.
+     * </p>
+     *
+     * @param maxInFlight maximum number of in-flight asynchronous invocations, must be positive.
+     * @param policy policy applied to invocations submitted while the cap is reached. Must not be {@code null}.
+     * @return an updated client builder instance.
+     * @throws IllegalArgumentException when the maximum is not positive.
+     * @throws NullPointerException in case the policy is {@code null}.
+     * @since 5.0
+     */
+    public ClientBuilder maxInFlight(final int maxInFlight, final OverflowPolicy policy) {
+        Objects.requireNonNull(policy, "policy");
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Maximum number of in-flight invocations must be positive.");
+        }
+        return property(MAX_IN_FLIGHT_PROPERTY, maxInFlight).property(IN_FLIGHT_OVERFLOW_POLICY_PROPERTY, policy);
+    }
+
+    /**
+     * Set the resolver used to resolve the host names of request URIs.
+     * <p>
+     * By default, the client runtime resolves host names using {@link java.net.InetAddress}. Resolvers are not consulted
+     * for requests sent through a proxy that resolves host names itself.
+     * </p>
+     * <p>
+     * The default implementation sets the {@link #HOST_RESOLVER_PROPERTY} property.
+     * </p>
+     *
+     * @param resolver host name resolver. Must not be {@code null}.
+     * @return an updated client builder instance.
+     * @throws NullPointerException in case the resolver is {@code null}.
+     * @since 5.0
+     */
+    public ClientBuilder resolver(final HostResolver resolver) {
+        return property(HOST_RESOLVER_PROPERTY, Objects.requireNonNull(resolver, "resolver"));
+    }
+
+    /**
+     * Set the strategy used to choose among the resolved addresses of a host when opening a new connection.
+     * <p>
+     * The default is {@link HostResolver.AddressSelection#FIRST}.
+     * </p>
+     * <p>
+     * The default implementation sets the {@link #ADDRESS_SELECTION_PROPERTY} property.
+     * </p>
+     *
+     * @param selection address selection strategy. Must not be {@code null}.
+     * @return an updated client builder instance.
+     * @throws NullPointerException in case the selection is {@code null}.
+     * @since 5.0
+     */
+    public ClientBuilder addressSelection(final HostResolver.AddressSelection selection) {
+        return property(ADDRESS_SELECTION_PROPERTY, Objects.requireNonNull(selection, "selection"));
+    }
+
     /**
      * Build a new client instance using all the configuration previously specified in this client builder.
      *
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+/**
+ * An extension interface implemented by listeners receiving the timing of the individual phases of client invocations.
+ * <p>
+ * Listeners are registered like any other provider, using one of the {@link jakarta.ws.rs.core.Configurable#register
+ * register(...)} methods of {@link ClientBuilder}, {@link Client} or {@link WebTarget}, and are notified for every
+ * {@link Invocation} executed in the scope of the configuration they have been registered with. This type of listeners
+ * is supported only as part of the Client API.
+ * </p>
+ * <p>
+ * Phases that do not apply to a particular invocation are not reported. For example, when a pooled connection is reused,
+ * the {@link Phase#DNS_LOOKUP_STARTED DNS lookup}, {@link Phase#CONNECT_STARTED connect} and
+ * {@link Phase#TLS_HANDSHAKE_STARTED TLS handshake} phases are skipped. The reported phases of a single invocation are
+ * delivered in the order they occur, but may be delivered on different threads. Implementations are expected to avoid
+ * collecting any timing information when no listener is registered.
+ * </p>
+ * <p>
+ * Listener methods are invoked on the I/O path of the client runtime and MUST return quickly and MUST NOT block. A
+ * listener throwing an exception does not affect the invocation.
+ * </p>
+ *
+ * @see ClientRequestFilter
+ * @since 5.0
+ */
+public interface ClientInvocationListener {
+
+    /**
+     * Phases of a client invocation, in the order they occur. Phases that do not apply to an invocation, such as connect
+     * when a pooled connection is reused, are not reported.
+     */
+    public enum Phase {
+
+        /**
+         * The request has passed the request filter chain and is about to be sent.
+         */
+        STARTED,
+
+        /**
+         * The invocation started waiting for a connection from the connection pool.
+         */
+        CONNECTION_REQUESTED,
+
+        /**
+         * Resolution of the host name of the request URI has started.
+         */
+        DNS_LOOKUP_STARTED,
+
+        /**
+         * Resolution of the host name of the request URI has finished.
+         */
+        DNS_LOOKUP_FINISHED,
+
+        /**
+         * Opening of a new transport connection has started.
+         */
+        CONNECT_STARTED,
+
+        /**
+         * A new transport connection has been opened.
+         */
+        CONNECT_FINISHED,
+
+        /**
+         * The TLS handshake of a new connection has started.
+         */
+        TLS_HANDSHAKE_STARTED,
+
+        /**
+         * The TLS handshake of a new connection has finished.
+         */
+        TLS_HANDSHAKE_FINISHED,
+
+        /**
+         * A connection has been obtained, either from the pool or by opening a new one. For a new connection, this
+         * phase follows the connect and TLS handshake phases.
+         */
+        CONNECTION_ACQUIRED,
+
+        /**
+         * The request headers and entity, if any, have been fully written.
+         */
+        REQUEST_SENT,
+
+        /**
+         * The first byte of the response has been received.
+         */
+        RESPONSE_STARTED,
+
+        /**
+         * The response entity has been fully read, or the response has been closed.
+         */
+        RESPONSE_FINISHED
+    }
+
+    /**
+     * Notification that an invocation has reached the supplied phase.
+     *
+     * @param requestContext context of the request being executed.
+     * @param phase the phase reached.
+     * @param nanoTime value of {@link System#nanoTime()} at the moment the phase has been reached.
+     */
+    public void onPhase(ClientRequestContext requestContext, Phase phase, long nanoTime);
+
+    /**
+     * Notification that an invocation has failed. No further phases are reported for the invocation.
+     * <p>
+     * The default implementation does nothing.
+     * </p>
+     *
+     * @param requestContext context of the request being executed.
+     * @param failure the cause of the failure.
+     * @param nanoTime value of {@link System#nanoTime()} at the moment the failure has occurred.
+     */
+    public default void onFailure(ClientRequestContext requestContext, Throwable failure, long nanoTime) {
+    }
+}
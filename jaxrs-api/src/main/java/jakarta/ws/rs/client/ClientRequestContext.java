@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,6 +20,7 @@ import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
@@ -31,6 +32,7 @@ import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.Cookie;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.PropertyKey;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.MessageBodyWriter;
 
@@ -46,6 +48,26 @@ import jakarta.ws.rs.ext.MessageBodyWriter;
  */
 public interface ClientRequestContext {
 
+    /**
+     * Name of the request property holding the {@link #getDeadline() deadline} of the request.
+     *
+     * @see Invocation.Builder#deadline(Instant)
+     * @since 5.0
+     */
+    String DEADLINE_PROPERTY = "jakarta.ws.rs.client.Deadline";
+
+    /**
+     * Name of the configuration property holding the name of a request header used to forward the deadline of a request.
+     * <p>
+     * If set, requests with a {@link #getDeadline() deadline} carry the named header with the number of milliseconds
+     * remaining until the deadline at the time the request is sent.
+     * </p>
+     *
+     * @see jakarta.ws.rs.container.ContainerRequestContext#DEADLINE_HEADER_PROPERTY
+     * @since 5.0
+     */
+    String DEADLINE_HEADER_PROPERTY = "jakarta.ws.rs.client.DeadlineHeader";
+
     /**
      * Returns the property with the given name registered in the current request/response exchange context, or {@code null}
      * if there is no property by that name.
@@ -121,6 +143,61 @@ public interface ClientRequestContext {
      */
     public void removeProperty(String name);
 
+    /**
+     * Returns the value of the property identified by the given typed key in the current request/response exchange
+     * context, or {@code null} if there is no such property.
+     * <p>
+     * The default implementation looks the property up by the {@link PropertyKey#getName() name} of the key.
+     * Implementations should override this method to store typed properties in a slot array indexed by
+     * {@link PropertyKey#index()}, resolving property names to slots using {@link PropertyKey#indexOf(String)}.
+     * </p>
+     *
+     * @param key key of the property.
+     * @param <T> type of the property value.
+     * @return value of the property, or {@code null} if no property exists for the given key.
+     * @throws NullPointerException in case the {@code key} parameter is {@code null}.
+     * @throws ClassCastException in case the property exists but its value is not an instance of the type of the key.
+     * @see #getProperty(String)
+     * @since 5.0
+     */
+    public default <T> T getProperty(final PropertyKey<T> key) {
+        return key.cast(getProperty(key.getName()));
+    }
+
+    /**
+     * Binds a value to the property identified by the given typed key in the current request/response exchange context.
+     * <p>
+     * If a {@code null} value is passed, the effect is the same as calling the {@link #removeProperty(PropertyKey)}
+     * method. The default implementation binds the value to the {@link PropertyKey#getName() name} of the key.
+     * </p>
+     *
+     * @param key key of the property.
+     * @param value value of the property.
+     * @param <T> type of the property value.
+     * @throws NullPointerException in case the {@code key} parameter is {@code null}.
+     * @throws ClassCastException in case the value is not an instance of the type of the key.
+     * @see #setProperty(String, Object)
+     * @since 5.0
+     */
+    public default <T> void setProperty(final PropertyKey<T> key, final T value) {
+        setProperty(key.getName(), key.cast(value));
+    }
+
+    /**
+     * Removes the property identified by the given typed key from the current request/response exchange context.
+     * <p>
+     * The default implementation removes the property by the {@link PropertyKey#getName() name} of the key.
+     * </p>
+     *
+     * @param key key of the property to be removed.
+     * @throws NullPointerException in case the {@code key} parameter is {@code null}.
+     * @see #removeProperty(String)
+     * @since 5.0
+     */
+    public default void removeProperty(final PropertyKey<?> key) {
+        removeProperty(key.getName());
+    }
+
     /**
      * Get the request URI.
      *
@@ -423,4 +500,21 @@ public interface ClientRequestContext {
      * @param response response to be sent back to the client.
      */
     public void abortWith(Response response);
+
+    /**
+     * Get the absolute deadline of the request.
+     * <p>
+     * The deadline is either set explicitly using {@link Invocation.Builder#deadline(Instant)} or inherited from the
+     * {@link jakarta.ws.rs.container.ContainerRequestContext#getDeadline() deadline} of a server request in the scope of
+     * which the invocation is made, whichever is earlier. The default implementation returns the value of the
+     * {@link #DEADLINE_PROPERTY} property if it is an {@link Instant}, {@code null} otherwise.
+     * </p>
+     *
+     * @return deadline of the request or {@code null} if the request has no deadline.
+     * @since 5.0
+     */
+    public default Instant getDeadline() {
+        final Object deadline = getProperty(DEADLINE_PROPERTY);
+        return deadline instanceof Instant ? (Instant) deadline : null;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,13 +16,21 @@
 
 package jakarta.ws.rs.client;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 
+import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.Response;
 
 /**
  * Reactive invoker based {@link java.util.concurrent.CompletionStage}.
+ * <p>
+ * Besides the regular response types, the response entity can be consumed as a non-blocking
+ * {@link Flow.Publisher Flow.Publisher&lt;ByteBuffer&gt;} using one of the {@code stream(...)} methods, which allows large
+ * response entities to be processed by a small number of threads, honoring the demand signalled by the subscriber.
+ * </p>
  *
  * @author Marek Potociar
  * @author Santiago Pericas-Geertsen
@@ -104,4 +112,53 @@ public interface CompletionStageRxInvoker extends RxInvoker<CompletionStage> {
 
     @Override
     public <T> CompletionStage<T> method(String name, Entity<?> entity, GenericType<T> responseType);
+
+    /**
+     * Invoke HTTP GET method for the current request and stream the response entity.
+     * <p>
+     * This is a convenience method for {@code stream(HttpMethod.GET, null)}.
+     * </p>
+     *
+     * @return stage completing with the publisher of the response entity once the response headers have been received.
+     * @see #stream(String, Entity)
+     * @since 5.0
+     */
+    public default CompletionStage<Flow.Publisher<ByteBuffer>> stream() {
+        return stream(HttpMethod.GET, null);
+    }
+
+    /**
+     * Invoke an arbitrary method for the current request and stream the response entity.
+     * <p>
+     * The returned stage completes once the response headers have been received, with a publisher of the response entity
+     * bytes. If the response status code is not {@link jakarta.ws.rs.core.Response.Status.Family#SUCCESSFUL successful},
+     * the stage completes exceptionally with a {@link jakarta.ws.rs.WebApplicationException}, exactly as for other response
+     * types. The publisher:
+     * </p>
+     * <ul>
+     * <li>accepts a single subscriber; further subscribers are signalled {@code onError} with an
+     * {@link IllegalStateException},</li>
+     * <li>never emits more buffers than requested by the subscriber and stops reading from the connection while there is
+     * no outstanding demand,</li>
+     * <li>may emit buffers, including direct buffers, owned and pooled by the implementation; the content of a buffer is
+     * only guaranteed to stay valid until {@code onNext} returns, so subscribers that need to retain it must copy it,</li>
+     * <li>releases the response, including the underlying connection, when the entity has been fully emitted, when an
+     * error is signalled or when the subscription is cancelled.</li>
+     * </ul>
+     * <p>
+     * This is equivalent to requesting the response entity as {@code new GenericType<Flow.Publisher<ByteBuffer>>() {}};
+     * implementations MUST support this response type.
+     * </p>
+     *
+     * @param name method name.
+     * @param entity request entity, including its full {@link jakarta.ws.rs.core.Variant} information, or {@code null} if
+     * the request does not carry an entity.
+     * @return stage completing with the publisher of the response entity once the response headers have been received.
+     * @since 5.0
+     */
+    public default CompletionStage<Flow.Publisher<ByteBuffer>> stream(String name, Entity<?> entity) {
+        final GenericType<Flow.Publisher<ByteBuffer>> publisherType = new GenericType<Flow.Publisher<ByteBuffer>>() {
+        };
+        return entity == null ? method(name, publisherType) : method(name, entity, publisherType);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,10 +17,13 @@
 package jakarta.ws.rs.client;
 
 import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Objects;
 
+import jakarta.ws.rs.core.FileRegion;
 import jakarta.ws.rs.core.Form;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
@@ -177,6 +180,65 @@ public final class Entity<T> {
         return new Entity<Form>(new Form(formData), MediaType.APPLICATION_FORM_URLENCODED_TYPE);
     }
 
+    /**
+     * Create an {@value jakarta.ws.rs.core.MediaType#APPLICATION_OCTET_STREAM} entity transferring the content of a file.
+     * <p>
+     * The {@code Content-Length} of the entity is the size of the file at the time the entity is written. Implementations
+     * are expected to transfer the file without copying it through heap buffers whenever the underlying transport permits
+     * it.
+     * </p>
+     *
+     * @param path path of the file. Must not be {@code null}.
+     * @return {@value jakarta.ws.rs.core.MediaType#APPLICATION_OCTET_STREAM} entity instance.
+     * @throws NullPointerException in case the {@code path} parameter is {@code null}.
+     * @since 5.0
+     */
+    public static Entity<Path> file(final Path path) {
+        return new Entity<Path>(Objects.requireNonNull(path, "path"), MediaType.APPLICATION_OCTET_STREAM_TYPE);
+    }
+
+    /**
+     * Create an {@value jakarta.ws.rs.core.MediaType#APPLICATION_OCTET_STREAM} entity transferring a region of a file.
+     * <p>
+     * The {@code Content-Length} of the entity is the supplied {@code length}.
+     * </p>
+     *
+     * @param path path of the file. Must not be {@code null}.
+     * @param offset offset of the first byte of the region within the file, must not be negative.
+     * @param length number of bytes of the region, must not be negative.
+     * @return {@value jakarta.ws.rs.core.MediaType#APPLICATION_OCTET_STREAM} entity instance.
+     * @throws NullPointerException in case the {@code path} parameter is {@code null}.
+     * @throws IllegalArgumentException in case the {@code offset} or {@code length} parameter is negative.
+     * @see FileRegion
+     * @since 5.0
+     */
+    public static Entity<FileRegion> file(final Path path, final long offset, final long length) {
+        return new Entity<FileRegion>(new FileRegion(path, offset, length), MediaType.APPLICATION_OCTET_STREAM_TYPE);
+    }
+
+    /**
+     * Create an {@value jakarta.ws.rs.core.MediaType#APPLICATION_OCTET_STREAM} entity consisting of the remaining bytes
+     * of the supplied buffers, in order.
+     * <p>
+     * The {@code Content-Length} of the entity is the sum of the {@link ByteBuffer#remaining() remaining} bytes of the
+     * buffers. The buffers are written without modifying their positions, so the buffers must not be modified until the
+     * entity has been written. Implementations are expected to write the buffers using a gathering write whenever the
+     * underlying transport permits it.
+     * </p>
+     *
+     * @param buffers buffers holding the entity data. Must not be {@code null}.
+     * @return {@value jakarta.ws.rs.core.MediaType#APPLICATION_OCTET_STREAM} entity instance.
+     * @throws NullPointerException in case the {@code buffers} parameter or any of the buffers is {@code null}.
+     * @since 5.0
+     */
+    public static Entity<ByteBuffer[]> buffers(final ByteBuffer... buffers) {
+        final ByteBuffer[] copy = buffers.clone();
+        for (final ByteBuffer buffer : copy) {
+            Objects.requireNonNull(buffer, "buffer");
+        }
+        return new Entity<ByteBuffer[]>(copy, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+    }
+
     private Entity(final T entity, final MediaType mediaType) {
         this(entity, new Variant(mediaType, (Locale) null, null), null);
     }
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Resolves host names of request URIs to network addresses.
+ * <p>
+ * A resolver registered using {@link ClientBuilder#resolver(HostResolver)} replaces the host name resolution of the
+ * client runtime, which by default relies on {@link InetAddress} and the JVM-wide address cache. Resolvers are invoked
+ * asynchronously and may return the addresses of a host together with the time to live of the underlying records,
+ * which lets {@link #caching(HostResolver) caching resolvers} honor per-record TTLs. The client runtime chooses among
+ * the resolved addresses of a host according to the configured {@link AddressSelection address selection}.
+ * </p>
+ *
+ * <pre>
+ * Client client = ClientBuilder.newBuilder()
+ *         .resolver(HostResolver.caching(new MyDnsResolver()))
+ *         .addressSelection(HostResolver.AddressSelection.ROUND_ROBIN)
+ *         .build();
+ * </pre>
+ * <p>
+ * Resolvers MUST be thread-safe and SHOULD NOT block the calling thread.
+ * </p>
+ *
+ * @see ClientBuilder#resolver(HostResolver)
+ * @since 5.0
+ */
+@FunctionalInterface
+public interface HostResolver {
+
+    /**
+     * Resolve a host name.
+     * <p>
+     * The returned stage completes with the addresses of the host, or exceptionally with an
+     * {@link UnknownHostException} if the host cannot be resolved. The client runtime reports such failures the same way
+     * as failures of the default host name resolution.
+     * </p>
+     *
+     * @param host host name of a request URI. Never {@code null}.
+     * @return completion stage of the resolution.
+     */
+    public CompletionStage<Resolution> resolve(String host);
+
+    /**
+     * Create a resolver serving a fixed map of host names to addresses, e.g. for tests running without network access.
+     * <p>
+     * Host names are matched case-insensitively. Resolutions never expire. Resolving a host name not contained in the map
+     * fails with an {@link UnknownHostException}. The supplied map is copied.
+     * </p>
+     *
+     * @param hosts addresses of each host name. Must not be {@code null}.
+     * @return resolver serving the supplied host names.
+     * @throws NullPointerException in case the map, any of its keys or values, or any of the addresses is {@code null}.
+     * @throws IllegalArgumentException in case any host name is mapped to no address.
+     */
+    public static HostResolver ofHosts(final Map<String, ? extends Collection<? extends InetAddress>> hosts) {
+        final Map<String, Resolution> resolutions = new HashMap<>();
+        hosts.forEach((host, addresses) -> resolutions.put(host.toLowerCase(Locale.ROOT),
+                Resolution.of(addresses, ChronoUnit.FOREVER.getDuration())));
+        return host -> {
+            final Resolution resolution = resolutions.get(host.toLowerCase(Locale.ROOT));
+            if (resolution == null) {
+                final CompletableFuture<Resolution> failed = new CompletableFuture<>();
+                failed.completeExceptionally(new UnknownHostException(host));
+                return failed;
+            }
+            return CompletableFuture.completedFuture(resolution);
+        };
+    }
+
+    /**
+     * Create a resolver caching the resolutions of the supplied resolver for their time to live.
+     * <p>
+     * This is a convenience method for {@code caching(delegate, ChronoUnit.FOREVER.getDuration())}.
+     * </p>
+     *
+     * @param delegate resolver performing the actual resolution. Must not be {@code null}.
+     * @return caching resolver.
+     * @throws NullPointerException in case the delegate is {@code null}.
+     * @see #caching(HostResolver, Duration)
+     */
+    public static HostResolver caching(final HostResolver delegate) {
+        return caching(delegate, ChronoUnit.FOREVER.getDuration());
+    }
+
+    /**
+     * Create a resolver caching the resolutions of the supplied resolver for their time to live, but no longer than the
+     * supplied maximum.
+     * <p>
+     * Concurrent resolutions of the same host name, matched case-insensitively, are coalesced into a single invocation of
+     * the delegate. Successful resolutions are cached until their {@link Resolution#getTtl() time to live}, capped by
+     * {@code maxTtl}, has elapsed; failed resolutions are not cached.
+     * </p>
+     *
+     * @param delegate resolver performing the actual resolution. Must not be {@code null}.
+     * @param maxTtl maximum time a resolution is cached. Must not be {@code null} or negative.
+     * @return caching resolver.
+     * @throws NullPointerException in case any of the parameters is {@code null}.
+     * @throws IllegalArgumentException in case the maximum time to live is negative.
+     */
+    public static HostResolver caching(final HostResolver delegate, final Duration maxTtl) {
+        return new CachingHostResolver(delegate, maxTtl);
+    }
+
+    /**
+     * Strategy used by the client runtime to choose among the resolved addresses of a host when opening a new connection.
+     * <p>
+     * Regardless of the strategy, if connecting to the chosen address fails, the runtime MAY try the remaining addresses.
+     * </p>
+     */
+    public enum AddressSelection {
+
+        /**
+         * Use the first resolved address.
+         */
+        FIRST,
+
+        /**
+         * Use the resolved addresses in turns, spreading new connections evenly across all addresses of a host.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Use the resolved address the client currently has the fewest open connections to.
+         */
+        LEAST_CONNECTIONS
+    }
+
+    /**
+     * Immutable result of a host name resolution.
+     */
+    public final class Resolution {
+
+        private final List<InetAddress> addresses;
+        private final Duration ttl;
+
+        private Resolution(final List<InetAddress> addresses, final Duration ttl) {
+            this.addresses = addresses;
+            this.ttl = ttl;
+        }
+
+        /**
+         * Create a new resolution.
+         *
+         * @param addresses resolved addresses, in order of preference. Must not be {@code null} or empty.
+         * @param ttl time the resolution may be cached for, {@link Duration#ZERO} if it must not be cached. Must not be
+         * {@code null} or negative.
+         * @return new resolution.
+         * @throws NullPointerException in case any of the parameters or any of the addresses is {@code null}.
+         * @throws IllegalArgumentException in case there are no addresses or the time to live is negative.
+         */
+        public static Resolution of(final Collection<? extends InetAddress> addresses, final Duration ttl) {
+            Objects.requireNonNull(ttl, "ttl");
+            if (addresses.isEmpty()) {
+                throw new IllegalArgumentException("No addresses.");
+            }
+            if (ttl.isNegative()) {
+                throw new IllegalArgumentException("Negative time to live.");
+            }
+            final List<InetAddress> copy = new ArrayList<>(addresses.size());
+            for (final InetAddress address : addresses) {
+                copy.add(Objects.requireNonNull(address, "address"));
+            }
+            return new Resolution(Collections.unmodifiableList(copy), ttl);
+        }
+
+        /**
+         * Get the resolved addresses.
+         *
+         * @return immutable non-empty list of addresses, in order of preference.
+         */
+        public List<InetAddress> getAddresses() {
+            return addresses;
+        }
+
+        /**
+         * Get the time the resolution may be cached for.
+         *
+         * @return time to live, never {@code null} or negative.
+         */
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Resolution)) {
+                return false;
+            }
+
+            final Resolution other = (Resolution) obj;
+            return addresses.equals(other.addresses) && ttl.equals(other.ttl);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(addresses, ttl);
+        }
+
+        @Override
+        public String toString() {
+            return "Resolution{addresses=" + addresses + ", ttl=" + ttl + "}";
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,9 @@
 
 package jakarta.ws.rs.client;
 
+import java.time.Instant;
 import java.util.Locale;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
 import jakarta.ws.rs.ProcessingException;
@@ -262,6 +264,38 @@ public interface Invocation {
          */
         public CompletionStageRxInvoker rx();
 
+        /**
+         * Access the default reactive invoker based on {@link java.util.concurrent.CompletionStage}, completing the returned
+         * stages on threads of the supplied executor.
+         * <p>
+         * The thread completing the stages returned by {@link #rx()} is chosen by the implementation, which may use the
+         * {@link ClientBuilder#executorService(java.util.concurrent.ExecutorService) executor service} of the client if
+         * supported, and non-async dependent stages run on that thread as well. This method gives the caller control over
+         * that thread instead:
+         * </p>
+         * <ul>
+         * <li>{@code Runnable::run} completes the stages directly on the thread that processed the response, typically an
+         * I/O thread of the implementation. This avoids any thread hop and is suitable for short, non-blocking
+         * continuations only; blocking in a dependent stage blocks the I/O of other invocations.</li>
+         * <li>A virtual thread executor, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()}, runs each completion on
+         * a new virtual thread, on which dependent stages may block cheaply.</li>
+         * <li>Any other executor, e.g. the event loop of a framework the caller is running on, keeps the dependent stages on
+         * the threads of that executor.</li>
+         * </ul>
+         * <p>
+         * The executor only determines the thread completing the returned stages; the request is processed by the client
+         * runtime as usual. Note that a caller already running on a virtual thread may prefer the synchronous invoker, since
+         * blocking a virtual thread does not block a platform thread.
+         * </p>
+         *
+         * @param executor executor used to complete the returned completion stages. Must not be {@code null}.
+         * @return reactive invoker instance completing stages on the supplied executor.
+         * @throws NullPointerException in case the executor is {@code null}.
+         * @see #rx()
+         * @since 5.0
+         */
+        public CompletionStageRxInvoker rx(Executor executor);
+
         /**
          * Access a reactive invoker based on a {@link RxInvoker} subclass provider. Note that corresponding
          * {@link RxInvokerProvider} must be registered in the client runtime.
@@ -278,6 +312,45 @@ public interface Invocation {
          */
         public <T extends RxInvoker> T rx(Class<T> clazz);
 
+        /**
+         * Prepare a reusable invocation using an arbitrary request method name.
+         * <p>
+         * The target URI template, headers, accepted media types and configuration of this builder are captured once, so
+         * that repeated invocations of the same request only need to bind their template parameter values, query
+         * parameters and entity. Template parameters of the target URI that have not been resolved yet are left
+         * unresolved, to be {@link PreparedInvocation.Binder#resolveTemplate(String, Object) bound} per call.
+         * </p>
+         *
+         * @param method request method name.
+         * @return reusable prepared invocation.
+         * @since 5.0
+         */
+        public PreparedInvocation prepare(String method);
+
+        /**
+         * Set an absolute deadline of the invocation.
+         * <p>
+         * An invocation that has not completed by its deadline fails with a {@link ProcessingException}
+         * caused by a {@link java.util.concurrent.TimeoutException}; an invocation whose deadline has passed already is
+         * not sent at all. The deadline applies in addition to the timeouts configured on the client, i.e. the earlier of
+         * both wins. If the invocation is made in the scope of processing a server request with an earlier
+         * {@link jakarta.ws.rs.container.ContainerRequestContext#getDeadline() deadline}, the deadline of the server request
+         * is used. The deadline is forwarded to the target as configured by
+         * {@link ClientRequestContext#DEADLINE_HEADER_PROPERTY}.
+         * </p>
+         * <p>
+         * The default implementation sets the {@link ClientRequestContext#DEADLINE_PROPERTY} property.
+         * </p>
+         *
+         * @param deadline deadline of the invocation, {@code null} removes the deadline.
+         * @return the updated builder.
+         * @see ClientRequestContext#getDeadline()
+         * @since 5.0
+         */
+        public default Builder deadline(final Instant deadline) {
+            return property(ClientRequestContext.DEADLINE_PROPERTY, deadline);
+        }
+
     }
 
     /**
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.util.Map;
+
+/**
+ * A reusable, pre-compiled client request with late-bound template parameters, query parameters and entity.
+ * <p>
+ * A prepared invocation is obtained via {@link Invocation.Builder#prepare(String)} and captures the target URI template,
+ * the request method, headers, accepted media types and the configuration of the builder it has been prepared from. The
+ * URI template is parsed and the configuration is captured once, when the invocation is prepared; subsequent changes of
+ * the originating builder or target do not affect the prepared invocation. Values that differ from call to call are
+ * supplied through a {@link Binder}, obtained via {@link #bind()}:
+ * </p>
+ *
+ * <pre>
+ * PreparedInvocation getUser = client.target("http://examples.jaxrs.com/users/{id}")
+ *         .request("application/json")
+ *         .prepare(HttpMethod.GET);
+ *
+ * for (String id : ids) {
+ *     User user = getUser.bind().resolveTemplate("id", id).build().invoke(User.class);
+ * }
+ * </pre>
+ * <p>
+ * Prepared invocations are thread-safe and are meant to be shared and reused for the lifetime of the {@link Client}
+ * they have been created from.
+ * </p>
+ *
+ * @see Invocation.Builder#prepare(String)
+ * @since 5.0
+ */
+public interface PreparedInvocation {
+
+    /**
+     * Get the request method of this prepared invocation.
+     *
+     * @return request method name.
+     */
+    public String getMethod();
+
+    /**
+     * Get the URI template of this prepared invocation.
+     *
+     * @return URI template, possibly containing unresolved template parameters.
+     */
+    public String getUriTemplate();
+
+    /**
+     * Start binding the per-call values of a new invocation.
+     *
+     * @return new binder. Binders are not thread-safe and must not be reused after {@link Binder#build()} has been called.
+     */
+    public Binder bind();
+
+    /**
+     * Binds the per-call values of a single invocation of a {@link PreparedInvocation}.
+     *
+     * @since 5.0
+     */
+    public static interface Binder {
+
+        /**
+         * Resolve a URI template with a given {@code name} in the prepared URI template using a supplied value.
+         * <p>
+         * Semantics are the same as of {@link WebTarget#resolveTemplate(String, Object)}.
+         * </p>
+         *
+         * @param name name of the URI template.
+         * @param value value to be used to resolve the template.
+         * @return the updated binder.
+         * @throws NullPointerException if the resolved template name or value is {@code null}.
+         */
+        public Binder resolveTemplate(String name, Object value);
+
+        /**
+         * Resolve one or more URI templates in the prepared URI template using supplied name-value pairs.
+         * <p>
+         * Semantics are the same as of {@link WebTarget#resolveTemplates(Map)}.
+         * </p>
+         *
+         * @param templateValues a map of URI template names and their values.
+         * @return the updated binder.
+         * @throws NullPointerException if the name-value map or any of the names or values in the map is {@code null}.
+         */
+        public Binder resolveTemplates(Map<String, Object> templateValues);
+
+        /**
+         * Append a query parameter to the query parameters captured by the prepared invocation.
+         * <p>
+         * Semantics are the same as of {@link WebTarget#queryParam(String, Object...)}.
+         * </p>
+         *
+         * @param name the query parameter name, may contain URI template parameters.
+         * @param values the query parameter value(s), each object will be converted to a {@code String} using its
+         * {@code toString()} method.
+         * @return the updated binder.
+         * @throws NullPointerException if the parameter name is {@code null} or if there are multiple values present and any
+         * of those values is {@code null}.
+         */
+        public Binder queryParam(String name, Object... values);
+
+        /**
+         * Set the request entity.
+         *
+         * @param entity request entity, including its full {@link jakarta.ws.rs.core.Variant} information. Any
+         * variant-related HTTP headers captured by the prepared invocation will be overwritten using the entity variant
+         * information.
+         * @return the updated binder.
+         */
+        public Binder entity(Entity<?> entity);
+
+        /**
+         * Set a new property in the context of the invocation being bound.
+         *
+         * @param name property name.
+         * @param value (new) property value. {@code null} value removes the property with the given name.
+         * @return the updated binder.
+         * @see Invocation#property(String, Object)
+         */
+        public Binder property(String name, Object value);
+
+        /**
+         * Build the invocation using the bound values.
+         *
+         * @return invocation ready to be executed.
+         * @throws IllegalArgumentException if there are any URI template parameters without a supplied value.
+         * @throws IllegalStateException if this binder has already been used to build an invocation.
+         */
+        public Invocation build();
+    }
+}
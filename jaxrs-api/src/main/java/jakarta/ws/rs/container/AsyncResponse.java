@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,8 +19,13 @@ package jakarta.ws.rs.container;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
+import jakarta.ws.rs.core.Response;
+
 /**
  * An injectable JAX-RS asynchronous response that provides means for asynchronous server side response processing.
  * <p>
@@ -77,6 +82,21 @@ public interface AsyncResponse {
      */
     public static final long NO_TIMEOUT = 0;
 
+    /**
+     * Name of the application property configuring the resolution of suspend timeouts, in milliseconds.
+     * <p>
+     * A positive value permits the JAX-RS runtime to track suspend timeouts in coarse-grained time slots of the given
+     * length, e.g. using a hashed timer wheel, instead of scheduling a separate task per suspended response. A timed-out
+     * response is then resumed or handed over to its {@link TimeoutHandler} no sooner than the timeout has expired and
+     * no later than one resolution period after. The value may be supplied as a {@link Number} or as a {@link String}
+     * parsable to a {@code long}. If the property is not set, the resolution is implementation specific.
+     * </p>
+     *
+     * @see jakarta.ws.rs.core.Application#getProperties()
+     * @since 5.0
+     */
+    public static final String TIMEOUT_RESOLUTION_PROPERTY = "jakarta.ws.rs.container.AsyncTimeoutResolution";
+
     /**
      * Resume the suspended request processing using the provided response data.
      *
@@ -122,6 +142,47 @@ public interface AsyncResponse {
      */
     public boolean resume(Throwable response);
 
+    /**
+     * Resume the suspended request processing once the provided completion stage completes.
+     * <p>
+     * If the stage completes normally, the processing is resumed with its result as if {@link #resume(Object)} was
+     * invoked. If the stage completes exceptionally, the processing is resumed with the failure as if
+     * {@link #resume(Throwable)} was invoked, unwrapping a {@link CompletionException} that has a cause. If the response
+     * is no longer {@link #isSuspended() suspended} when the stage completes, e.g. because it timed out or has been
+     * cancelled, the outcome of the stage is ignored; a {@link Response} the stage has completed with is
+     * {@link Response#close() closed} in that case, so that its entity is released.
+     * </p>
+     *
+     * <pre>
+     * &#64;GET
+     * public void get(&#64;Suspended AsyncResponse ar) {
+     *     ar.resumeWith(repository.loadAsync());
+     * }
+     * </pre>
+     *
+     * @param stage completion stage providing the response data or the failure of the request processing.
+     * @return completion stage that completes with {@code true} if the request processing has been resumed with the
+     * outcome of {@code stage}, {@code false} otherwise.
+     * @throws NullPointerException in case the {@code stage} parameter is {@code null}.
+     * @since 5.0
+     */
+    public default CompletionStage<Boolean> resumeWith(final CompletionStage<?> stage) {
+        Objects.requireNonNull(stage, "stage");
+        return stage.handle((response, failure) -> {
+            if (failure == null) {
+                final boolean resumed = resume((Object) response);
+                if (!resumed && response instanceof Response) {
+                    ((Response) response).close();
+                }
+                return resumed;
+            }
+            final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause()
+                    : failure;
+            return resume(cause);
+        });
+    }
+
     /**
      * Cancel the suspended request processing.
      * <p>
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,16 +18,20 @@ package jakarta.ws.rs.container;
 
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Flow;
 import java.util.function.Predicate;
 
 import jakarta.ws.rs.core.Cookie;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.PropertyKey;
 import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
@@ -45,6 +49,25 @@ import jakarta.ws.rs.core.UriInfo;
  */
 public interface ContainerRequestContext {
 
+    /**
+     * Name of the request property holding the {@link #getDeadline() deadline} of the request.
+     *
+     * @since 5.0
+     */
+    String DEADLINE_PROPERTY = "jakarta.ws.rs.container.Deadline";
+
+    /**
+     * Name of the configuration property holding the name of a request header conveying the deadline of a request.
+     * <p>
+     * If set, the value of the named request header is interpreted as the number of milliseconds the client is willing to
+     * wait for the response, and the {@link #getDeadline() deadline} of the request is initialized relative to the time
+     * the request has been received. Requests without the header have no deadline unless one is set by a filter.
+     * </p>
+     *
+     * @since 5.0
+     */
+    String DEADLINE_HEADER_PROPERTY = "jakarta.ws.rs.container.DeadlineHeader";
+
     /**
      * Returns the property with the given name registered in the current request/response exchange context, or {@code null}
      * if there is no property by that name.
@@ -140,6 +163,61 @@ public interface ContainerRequestContext {
      */
     public void removeProperty(String name);
 
+    /**
+     * Returns the value of the property identified by the given typed key in the current request/response exchange
+     * context, or {@code null} if there is no such property.
+     * <p>
+     * The default implementation looks the property up by the {@link PropertyKey#getName() name} of the key.
+     * Implementations should override this method to store typed properties in a slot array indexed by
+     * {@link PropertyKey#index()}, resolving property names to slots using {@link PropertyKey#indexOf(String)}.
+     * </p>
+     *
+     * @param key key of the property.
+     * @param <T> type of the property value.
+     * @return value of the property, or {@code null} if no property exists for the given key.
+     * @throws NullPointerException in case the {@code key} parameter is {@code null}.
+     * @throws ClassCastException in case the property exists but its value is not an instance of the type of the key.
+     * @see #getProperty(String)
+     * @since 5.0
+     */
+    public default <T> T getProperty(final PropertyKey<T> key) {
+        return key.cast(getProperty(key.getName()));
+    }
+
+    /**
+     * Binds a value to the property identified by the given typed key in the current request/response exchange context.
+     * <p>
+     * If a {@code null} value is passed, the effect is the same as calling the {@link #removeProperty(PropertyKey)}
+     * method. The default implementation binds the value to the {@link PropertyKey#getName() name} of the key.
+     * </p>
+     *
+     * @param key key of the property.
+     * @param value value of the property.
+     * @param <T> type of the property value.
+     * @throws NullPointerException in case the {@code key} parameter is {@code null}.
+     * @throws ClassCastException in case the value is not an instance of the type of the key.
+     * @see #setProperty(String, Object)
+     * @since 5.0
+     */
+    public default <T> void setProperty(final PropertyKey<T> key, final T value) {
+        setProperty(key.getName(), key.cast(value));
+    }
+
+    /**
+     * Removes the property identified by the given typed key from the current request/response exchange context.
+     * <p>
+     * The default implementation removes the property by the {@link PropertyKey#getName() name} of the key.
+     * </p>
+     *
+     * @param key key of the property to be removed.
+     * @throws NullPointerException in case the {@code key} parameter is {@code null}.
+     * @see #removeProperty(String)
+     * @since 5.0
+     */
+    public default void removeProperty(final PropertyKey<?> key) {
+        removeProperty(key.getName());
+    }
+
     /**
      * Get request URI information.
      *
@@ -362,6 +440,49 @@ public interface ContainerRequestContext {
      */
     public void setEntityStream(InputStream input);
 
+    /**
+     * Get a publisher of the request entity, allowing the entity to be consumed without blocking a thread while waiting
+     * for its data to arrive.
+     * <p>
+     * The publisher supports a single subscriber. Data is read from the connection only as demanded by the subscriber,
+     * and each buffer is valid only until the {@link Flow.Subscriber#onNext(Object) onNext} call it is passed to returns,
+     * as the implementation may reuse it. Subscribers needing the data afterwards must copy it. An empty entity completes
+     * the subscription right away.
+     * </p>
+     * <p>
+     * If the {@link #setEntityStream(InputStream) entity stream has been replaced}, e.g. by a filter decoding the entity,
+     * the publisher publishes the data of the replacement stream. As reading that stream may block, the implementation
+     * reads it on a thread that is not a container thread, e.g. a virtual thread, so that no container thread is blocked
+     * in this case either.
+     * </p>
+     * <p>
+     * The entity can be consumed only once, either via the returned publisher or via the {@link #getEntityStream() entity
+     * stream}. Once the publisher has been subscribed to, the entity stream MUST NOT be read, and entity providers
+     * reading the request entity fail. Resource methods can receive the same publisher by declaring an entity parameter of
+     * type {@code Flow.Publisher<ByteBuffer>}; combined with an {@link AsyncResponse} this releases the container thread
+     * while the request entity is being received.
+     * </p>
+     *
+     * @return publisher of the request entity data.
+     * @throws IllegalStateException in case the method is invoked from a response filter or the entity stream has already
+     * been read.
+     * @since 5.0
+     */
+    public Flow.Publisher<ByteBuffer> getEntityPublisher();
+
+    /**
+     * Get the cancellation signal of the request.
+     * <p>
+     * The signal fires once the processing of the request has been cancelled, e.g. because the client has disconnected.
+     * Filters may use it to abandon work started on behalf of the request.
+     * </p>
+     *
+     * @return request cancellation signal, never {@code null}.
+     * @see RequestCancellation
+     * @since 5.0
+     */
+    public RequestCancellation getCancellation();
+
     /**
      * Get the injectable security context information for the current request.
      *
@@ -393,4 +514,46 @@ public interface ContainerRequestContext {
      * @throws IllegalStateException in case the method is invoked from a response filter.
      */
     public void abortWith(Response response);
+
+    /**
+     * Get the absolute deadline of the request.
+     * <p>
+     * Work on behalf of the request that has not completed by its deadline is no longer useful to the client. Implementations
+     * SHOULD apply the deadline of a request to all {@link jakarta.ws.rs.client.Invocation invocations} made in the scope of
+     * processing the request that have no earlier {@link jakarta.ws.rs.client.Invocation.Builder#deadline(Instant)
+     * deadline} of their own, and SHOULD {@link AsyncResponse#cancel() cancel} a suspended asynchronous response that has
+     * not been resumed once the deadline has passed.
+     * </p>
+     * <p>
+     * The default implementation returns the value of the {@link #DEADLINE_PROPERTY} property if it is an {@link Instant},
+     * {@code null} otherwise.
+     * </p>
+     *
+     * @return deadline of the request or {@code null} if the request has no deadline.
+     * @see #DEADLINE_HEADER_PROPERTY
+     * @since 5.0
+     */
+    public default Instant getDeadline() {
+        final Object deadline = getProperty(DEADLINE_PROPERTY);
+        return deadline instanceof Instant ? (Instant) deadline : null;
+    }
+
+    /**
+     * Set the absolute deadline of the request, replacing any deadline derived from the request headers.
+     * <p>
+     * The default implementation stores the deadline in the {@link #DEADLINE_PROPERTY} property.
+     * </p>
+     *
+     * @param deadline new deadline of the request, {@code null} removes the deadline.
+     * @throws IllegalStateException in case the method is invoked from a response filter.
+     * @see #getDeadline()
+     * @since 5.0
+     */
+    public default void setDeadline(final Instant deadline) {
+        if (deadline == null) {
+            removeProperty(DEADLINE_PROPERTY);
+        } else {
+            setProperty(DEADLINE_PROPERTY, deadline);
+        }
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.ws.rs.container;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * {@link ResourceMetadata} resolved reflectively and cached per resource class and method.
+ *
+ * @see ResourceInfo#getResourceMetadata()
+ * @since 5.0
+ */
+final class ReflectiveResourceMetadata implements ResourceMetadata {
+
+    private static final ClassValue<ConcurrentMap<Method, ResourceMetadata>> CACHE = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Method, ResourceMetadata> computeValue(final Class<?> resourceClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Map<Class<? extends Annotation>, Annotation> annotations;
+    private final String httpMethod;
+    private final List<MediaType> produces;
+    private final List<MediaType> consumes;
+    private final String pathTemplate;
+
+    private ReflectiveResourceMetadata(final Class<?> resourceClass, final Method resourceMethod) {
+        final Map<Class<? extends Annotation>, Annotation> merged = new LinkedHashMap<>();
+        for (final Annotation annotation : resourceClass.getAnnotations()) {
+            merged.put(annotation.annotationType(), annotation);
+        }
+        String designator = null;
+        for (final Annotation annotation : resourceMethod.getAnnotations()) {
+            merged.put(annotation.annotationType(), annotation);
+            final HttpMethod httpMethod = annotation.annotationType().getAnnotation(HttpMethod.class);
+            if (httpMethod != null) {
+                designator = httpMethod.value();
+            }
+        }
+        this.annotations = Collections.unmodifiableMap(merged);
+        this.httpMethod = designator;
+
+        final Produces produces = getAnnotation(Produces.class);
+        this.produces = parse(produces == null ? null : produces.value());
+        final Consumes consumes = getAnnotation(Consumes.class);
+        this.consumes = parse(consumes == null ? null : consumes.value());
+
+        this.pathTemplate = template(resourceClass.getAnnotation(Path.class), resourceMethod.getAnnotation(Path.class));
+    }
+
+    /**
+     * Get the metadata of the given resource method, resolving it on first access.
+     *
+     * @param resourceClass resource class.
+     * @param resourceMethod resource method.
+     * @return metadata of the resource method.
+     */
+    static ResourceMetadata of(final Class<?> resourceClass, final Method resourceMethod) {
+        return CACHE.get(resourceClass)
+                .computeIfAbsent(resourceMethod, method -> new ReflectiveResourceMetadata(resourceClass, method));
+    }
+
+    private static List<MediaType> parse(final String[] values) {
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        final List<MediaType> mediaTypes = new ArrayList<>();
+        for (final String value : values) {
+            for (final String mediaType : value.split(",")) {
+                if (!mediaType.isBlank()) {
+                    mediaTypes.add(MediaType.valueOf(mediaType.trim()));
+                }
+            }
+        }
+        return Collections.unmodifiableList(mediaTypes);
+    }
+
+    private static String template(final Path classPath, final Path methodPath) {
+        final StringBuilder template = new StringBuilder();
+        append(template, classPath);
+        append(template, methodPath);
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    private static void append(final StringBuilder template, final Path path) {
+        if (path == null) {
+            return;
+        }
+        // leading and trailing slashes are ignored, slashes within templates, e.g. in regular expressions, are retained
+        final String value = path.value();
+        int begin = 0;
+        int end = value.length();
+        while (begin < end && value.charAt(begin) == '/') {
+            begin++;
+        }
+        while (end > begin && value.charAt(end - 1) == '/') {
+            end--;
+        }
+        if (begin < end) {
+            template.append('/').append(value, begin, end);
+        }
+    }
+
+    @Override
+    public Collection<Annotation> getAnnotations() {
+        return annotations.values();
+    }
+
+    @Override
+    public <A extends Annotation> A getAnnotation(final Class<A> annotationType) {
+        return annotationType.cast(annotations.get(annotationType));
+    }
+
+    @Override
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    @Override
+    public List<MediaType> getProduces() {
+        return produces;
+    }
+
+    @Override
+    public List<MediaType> getConsumes() {
+        return consumes;
+    }
+
+    @Override
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceMetadata{httpMethod=" + httpMethod + ", pathTemplate=" + pathTemplate + ", produces=" + produces
+                + ", consumes=" + consumes + "}";
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.ws.rs.container;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+/**
+ * Request-scoped signal indicating that the processing of a request has been cancelled and that the result of the
+ * request processing will not be used.
+ * <p>
+ * The signal fires once, when the JAX-RS runtime detects that the client has disconnected, i.e. in the same situation
+ * that triggers {@link ConnectionCallback#onDisconnect(AsyncResponse)}, when the {@link AsyncResponse} of the request
+ * has been {@link AsyncResponse#cancel() cancelled}, or when the {@link ContainerRequestContext#getDeadline() deadline}
+ * of the request has passed. Detecting client disconnects is OPTIONAL; a runtime that is not able to detect them fires
+ * the signal in the remaining situations only.
+ * </p>
+ * <p>
+ * The signal does not determine the response, if any, sent to the client: no response can be sent once the client has
+ * disconnected, and cancelling an {@code AsyncResponse} sends a {@code 503 (Service Unavailable)} response, optionally
+ * with a {@code Retry-After} header, as specified by {@link AsyncResponse#cancel()}. A runtime that fires the signal
+ * because the deadline of a request has passed responds as if the {@code AsyncResponse} had been cancelled: a suspended
+ * request is cancelled, and for a request that is not suspended, a {@code 503 (Service Unavailable)} response is sent
+ * instead of the response produced by the resource method.
+ * </p>
+ * <p>
+ * An instance can be obtained from {@link ContainerRequestContext#getCancellation()} or injected into resource classes
+ * and providers using {@link jakarta.ws.rs.core.Context &#64;Context}. Work started on behalf of the request can be
+ * cancelled along with it:
+ * </p>
+ *
+ * <pre>
+ * &#64;GET
+ * public CompletionStage&lt;Report&gt; report(&#64;Context RequestCancellation cancellation) {
+ *     Future&lt;Stats&gt; stats = cancellation.propagateToFuture(statsTarget.request().async().get(Stats.class));
+ *     return cancellation.propagateTo(CompletableFuture.supplyAsync(() -&gt; reportQuery.run(stats), executor));
+ * }
+ * </pre>
+ * <p>
+ * Long-running synchronous code may poll {@link #isCancelled()} instead.
+ * </p>
+ *
+ * @see ConnectionCallback
+ * @since 5.0
+ */
+public interface RequestCancellation {
+
+    /**
+     * Check whether the processing of the request has been cancelled.
+     *
+     * @return {@code true} if the request processing has been cancelled, {@code false} otherwise.
+     */
+    public boolean isCancelled();
+
+    /**
+     * Get a completion stage that completes normally once the processing of the request has been cancelled.
+     * <p>
+     * The stage never completes if the request is processed to completion. Actions depending on the stage should be
+     * short and non-blocking, as they may be executed by a container thread.
+     * </p>
+     *
+     * @return completion stage signalling the cancellation of the request processing.
+     */
+    public CompletionStage<Void> onCancel();
+
+    /**
+     * Cancel the given stage once the processing of the request has been cancelled.
+     * <p>
+     * The stage is cancelled by invoking {@link java.util.concurrent.CompletableFuture#cancel(boolean)} on the result of
+     * its {@link CompletionStage#toCompletableFuture()} method, which has no effect if the stage has already completed.
+     * Whether running work is interrupted depends on the stage; a {@link java.util.concurrent.CompletableFuture} for
+     * example completes exceptionally but does not interrupt the thread computing its result.
+     * Returning the stage from an asynchronous resource method after having passed it to this method ensures that no
+     * work continues on behalf of a request whose processing result will not be used.
+     * </p>
+     *
+     * @param stage completion stage to be cancelled along with the request processing.
+     * @param <S> type of the completion stage.
+     * @return the given stage.
+     * @throws NullPointerException in case the {@code stage} parameter is {@code null}.
+     */
+    public default <S extends CompletionStage<?>> S propagateTo(final S stage) {
+        Objects.requireNonNull(stage, "stage");
+        onCancel().thenRun(() -> stage.toCompletableFuture().cancel(true));
+        return stage;
+    }
+
+    /**
+     * Cancel the given future once the processing of the request has been cancelled.
+     * <p>
+     * This method is typically applied to the result of an asynchronous client {@link jakarta.ws.rs.client.AsyncInvoker
+     * invocation} issued on behalf of the request, so that the invocation is aborted once the request processing has been
+     * cancelled. The future is cancelled by invoking {@link Future#cancel(boolean) cancel(true)}, which has no effect if
+     * the future has already completed.
+     * </p>
+     *
+     * @param future future to be cancelled along with the request processing.
+     * @param <F> type of the future.
+     * @return the given future.
+     * @throws NullPointerException in case the {@code future} parameter is {@code null}.
+     */
+    public default <F extends Future<?>> F propagateToFuture(final F future) {
+        Objects.requireNonNull(future, "future");
+        onCancel().thenRun(() -> future.cancel(true));
+        return future;
+    }
+}
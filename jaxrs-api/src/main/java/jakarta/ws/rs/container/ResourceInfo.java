@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -43,4 +43,25 @@ public interface ResourceInfo {
      * @see #getResourceMethod()
      */
     Class<?> getResourceClass();
+
+    /**
+     * Get the resolved metadata of the resource method that is the target of a request, or <code>null</code> if this
+     * information is not available.
+     * <p>
+     * Implementations SHOULD compute the metadata of every resource method once, at deployment time, and return the same
+     * instance for all requests matched to that method. The default implementation resolves the metadata reflectively
+     * from {@link #getResourceClass()} and {@link #getResourceMethod()} on first access and caches it.
+     * </p>
+     *
+     * @return resource method metadata or null
+     * @since 5.0
+     */
+    default ResourceMetadata getResourceMetadata() {
+        final Class<?> resourceClass = getResourceClass();
+        final Method resourceMethod = getResourceMethod();
+        if (resourceClass == null || resourceMethod == null) {
+            return null;
+        }
+        return ReflectiveResourceMetadata.of(resourceClass, resourceMethod);
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.ws.rs.container;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Resolved metadata of a resource method, computed once per resource method rather than per request.
+ * <p>
+ * Filters and interceptors bound to resource methods commonly inspect the annotations of the matched method. Instead
+ * of reflectively looking them up on every request, such providers can read the facts resolved at deployment time from
+ * the metadata returned by {@link ResourceInfo#getResourceMetadata()}:
+ * </p>
+ *
+ * <pre>
+ * &#64;Context
+ * ResourceInfo resourceInfo;
+ *
+ * public void filter(ContainerRequestContext requestContext) {
+ *     RolesAllowed roles = resourceInfo.getResourceMetadata().getAnnotation(RolesAllowed.class);
+ *     ...
+ * }
+ * </pre>
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ *
+ * @see ResourceInfo#getResourceMetadata()
+ * @since 5.0
+ */
+public interface ResourceMetadata {
+
+    /**
+     * Get the annotations of the resource method merged with the annotations of the resource class.
+     * <p>
+     * If both the resource class and the resource method are annotated with an annotation of the same type, only the
+     * annotation of the resource method is included.
+     * </p>
+     *
+     * @return immutable collection of merged annotations, never {@code null}.
+     */
+    public Collection<Annotation> getAnnotations();
+
+    /**
+     * Get the annotation of the given type from the {@link #getAnnotations() merged annotations}.
+     *
+     * @param annotationType type of the annotation.
+     * @param <A> type of the annotation.
+     * @return annotation of the resource method or, if not present, of the resource class, or {@code null} if neither is
+     * annotated with an annotation of the given type.
+     */
+    public <A extends Annotation> A getAnnotation(Class<A> annotationType);
+
+    /**
+     * Check whether an annotation of the given type is present in the {@link #getAnnotations() merged annotations}.
+     *
+     * @param annotationType type of the annotation.
+     * @return {@code true} if the resource method or the resource class is annotated with an annotation of the given
+     * type, {@code false} otherwise.
+     */
+    public default boolean isAnnotationPresent(final Class<? extends Annotation> annotationType) {
+        return getAnnotation(annotationType) != null;
+    }
+
+    /**
+     * Get the HTTP method designated by the {@link jakarta.ws.rs.HttpMethod request method designator} of the resource
+     * method.
+     *
+     * @return HTTP method, e.g. {@code GET}, or {@code null} for a sub-resource locator.
+     */
+    public String getHttpMethod();
+
+    /**
+     * Get the media types the resource method produces, as declared by {@link jakarta.ws.rs.Produces &#64;Produces} on
+     * the resource method or, if not present, on the resource class.
+     *
+     * @return immutable list of parsed media types, empty if no media types are declared.
+     */
+    public List<MediaType> getProduces();
+
+    /**
+     * Get the media types the resource method consumes, as declared by {@link jakarta.ws.rs.Consumes &#64;Consumes} on
+     * the resource method or, if not present, on the resource class.
+     *
+     * @return immutable list of parsed media types, empty if no media types are declared.
+     */
+    public List<MediaType> getConsumes();
+
+    /**
+     * Get the URI template of the resource method.
+     * <p>
+     * The template is composed of the {@link jakarta.ws.rs.Path &#64;Path} values of the resource class and of the
+     * resource method, relative to the application path, e.g. {@code /orders/{id}}. For a method of a sub-resource, the
+     * template is relative to the template of the sub-resource locator.
+     * </p>
+     *
+     * @return URI template starting with {@code /}, never {@code null}.
+     */
+    public String getPathTemplate();
+}
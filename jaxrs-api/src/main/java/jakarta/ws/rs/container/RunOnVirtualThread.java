@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.container;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Dispatch the invocation of a resource method on a virtual thread.
+ * <p>
+ * When applied to a resource or sub-resource method, or to a resource class to apply to all of its resource and
+ * sub-resource methods, the JAX-RS runtime processes each matched request on a new virtual thread from the point the
+ * method has been matched: running the post-matching request filters, including name-bound ones, reading the request
+ * entity, invoking the method and, for methods that do not suspend the response, running the response filters and
+ * writing the response. The container thread is released as soon as the request has been dispatched, so
+ * resource methods may block, e.g. on I/O or locks, without tying up container threads:
+ * </p>
+ *
+ * <pre>
+ * &#64;Path("/orders")
+ * &#64;RunOnVirtualThread
+ * public class OrderResource {
+ *
+ *     &#64;GET
+ *     &#64;Path("{id}")
+ *     public Order get(&#64;PathParam("id") String id) {
+ *         return repository.load(id); // blocking call
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * The annotation can be combined with {@link Suspended &#64;Suspended} {@link AsyncResponse} parameters, in which case
+ * the response is suspended as usual and may be resumed from the virtual thread. {@link PreMatching &#64;PreMatching}
+ * request filters run before the method has been matched and are therefore not affected. To run all resource methods of an application on virtual threads, set the
+ * {@link #APPLICATION_PROPERTY} application property to {@code true}.
+ * </p>
+ * <p>
+ * In a Jakarta EE environment, implementations MUST create the virtual threads using a container-managed thread factory
+ * that propagates the context of the request.
+ * </p>
+ *
+ * @see jakarta.ws.rs.core.Application#getProperties()
+ * @since 5.0
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RunOnVirtualThread {
+
+    /**
+     * Name of the {@link jakarta.ws.rs.core.Application#getProperties() application property} that, if set to
+     * {@link Boolean#TRUE}, dispatches all resource methods of the application on virtual threads as if their classes were
+     * annotated with {@code RunOnVirtualThread}.
+     */
+    String APPLICATION_PROPERTY = "jakarta.ws.rs.container.RunOnVirtualThread";
+}
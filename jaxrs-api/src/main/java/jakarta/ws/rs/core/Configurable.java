@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -128,6 +128,21 @@ import java.util.Map;
  * config.register(ClientLoggingFilter.class,
  *         ClientResponseFilter.class); // Rejected by runtime.
  * </pre>
+ * <h2>Configuration snapshots.</h2>
+ * <p>
+ * The configuration of a {@link jakarta.ws.rs.client.Client} or {@link jakarta.ws.rs.client.WebTarget} is frozen into
+ * an immutable {@link Configuration#snapshot() snapshot} when the instance is first used to build an
+ * {@link jakarta.ws.rs.client.Invocation invocation}. Each invocation executes against the snapshot current at the time
+ * it was built, with provider chains assembled and sorted by priority once per snapshot. Subsequent modifications of
+ * the configurable instance are still permitted, but they produce a new snapshot used by invocations built afterwards;
+ * invocations that have been built or submitted before are not affected. Implementations therefore need not assemble
+ * provider chains per invocation, nor guard the configuration used by in-flight invocations against concurrent
+ * modification.
+ * </p>
+ * <p>
+ * Since every modification after first use requires a new snapshot, applications SHOULD complete the configuration of a
+ * client or web target before using it.
+ * </p>
  *
  * @param <C> generic configurable Java type
  * @author Marek Potociar
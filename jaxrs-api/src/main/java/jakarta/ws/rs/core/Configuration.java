@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -185,4 +185,23 @@ public interface Configuration {
      * @see #getClasses
      */
     public Set<Object> getInstances();
+
+    /**
+     * Get an immutable snapshot of this configuration state.
+     * <p>
+     * The returned configuration reflects the properties and registered components at the time of the call and is not
+     * affected by any later modification of the associated {@link Configurable configurable} context. Calling this method
+     * on a snapshot returns the snapshot itself.
+     * </p>
+     * <p>
+     * Invocations of a {@link jakarta.ws.rs.client.Client} or {@link jakarta.ws.rs.client.WebTarget} execute against a
+     * snapshot of its configuration, which lets implementations sort the registered filters and interceptors by priority
+     * and compile them into immutable chains once per snapshot rather than once per invocation. See the
+     * {@link Configurable} documentation for details.
+     * </p>
+     *
+     * @return immutable snapshot of this configuration.
+     * @since 5.0
+     */
+    public Configuration snapshot();
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * A contiguous region of a file, used as a message entity.
+ * <p>
+ * The length of the region is known up front, so the {@code Content-Length} of a message carrying a file region is
+ * always known. Implementations are expected to transfer file regions without copying them through heap buffers, e.g.
+ * using {@link java.nio.channels.FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, whenever
+ * the underlying transport permits it. The file is opened only when the entity is written.
+ * </p>
+ *
+ * @see jakarta.ws.rs.client.Entity#file(Path, long, long)
+ * @since 5.0
+ */
+public final class FileRegion {
+
+    private final Path path;
+    private final long offset;
+    private final long length;
+
+    /**
+     * Create a new file region.
+     *
+     * @param path path of the file. Must not be {@code null}.
+     * @param offset offset of the first byte of the region within the file, must not be negative.
+     * @param length number of bytes of the region, must not be negative.
+     * @throws NullPointerException in case the {@code path} parameter is {@code null}.
+     * @throws IllegalArgumentException in case the {@code offset} or {@code length} parameter is negative.
+     */
+    public FileRegion(final Path path, final long offset, final long length) {
+        this.path = Objects.requireNonNull(path, "path");
+        if (offset < 0) {
+            throw new IllegalArgumentException("Negative offset.");
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length.");
+        }
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Get the path of the file.
+     *
+     * @return path of the file.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Get the offset of the first byte of the region within the file.
+     *
+     * @return offset of the region.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Get the number of bytes of the region.
+     *
+     * @return length of the region.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (!(obj instanceof FileRegion)) {
+            return false;
+        }
+
+        final FileRegion other = (FileRegion) obj;
+        return path.equals(other.path) && offset == other.offset && length == other.length;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, offset, length);
+    }
+
+    @Override
+    public String toString() {
+        return "FileRegion{path=" + path + ", offset=" + offset + ", length=" + length + "}";
+    }
+}
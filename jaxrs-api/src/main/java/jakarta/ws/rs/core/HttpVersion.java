@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+/**
+ * HTTP protocol versions a client or a server can be configured to use.
+ *
+ * @see jakarta.ws.rs.client.ClientBuilder#httpVersion(HttpVersion)
+ * @see jakarta.ws.rs.SeBootstrap.Configuration#HTTP_VERSION
+ * @since 5.0
+ */
+public enum HttpVersion {
+
+    /**
+     * HTTP/1.1 only.
+     */
+    HTTP_1_1,
+
+    /**
+     * HTTP/2 if supported by the peer, HTTP/1.1 otherwise.
+     * <p>
+     * On TLS connections, HTTP/2 is negotiated using ALPN. On cleartext connections, HTTP/2 is negotiated using the
+     * HTTP/1.1 {@code Upgrade: h2c} mechanism.
+     * </p>
+     */
+    HTTP_2,
+
+    /**
+     * HTTP/2 over cleartext connections without prior negotiation.
+     * <p>
+     * A client sends the HTTP/2 connection preface right away and a server expects it, which saves a round trip but
+     * requires prior knowledge that the peer supports HTTP/2, e.g. for internal traffic. TLS connections behave as with
+     * {@link #HTTP_2}.
+     * </p>
+     */
+    HTTP_2_PRIOR_KNOWLEDGE
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.ws.rs.core;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Typed key of a request-scoped property.
+ * <p>
+ * Filters and interceptors exchanging data via the properties of a request typically look up the same property names
+ * for every request. A property key binds such a name to the type of its value and to a dense, JVM-wide unique
+ * {@link #index() index}, allowing implementations to store the properties of a request in a slot array indexed by the
+ * key rather than in a hash map keyed by the property name. Keys are meant to be allocated once, e.g. as constants, and
+ * shared by all requests:
+ * </p>
+ *
+ * <pre>
+ * static final PropertyKey&lt;Principal&gt; CALLER = PropertyKey.of("com.example.caller", Principal.class);
+ *
+ * public void filter(ContainerRequestContext requestContext) {
+ *     requestContext.setProperty(CALLER, authenticate(requestContext));
+ * }
+ * </pre>
+ * <p>
+ * There is exactly one index per property name: all keys of the same name share the index allocated for the name
+ * first, so a name and its keys always identify the same slot. Name-based access to a typed property can therefore be
+ * resolved using {@link #indexOf(String)}, a lookup in a JVM-wide table, instead of a per-request map keyed by name.
+ * </p>
+ * <p>
+ * The table only binds names to indexes; the value type is a property of each key, so that keys of the same name may be
+ * created for types loaded by different class loaders, e.g. by successive deployments of an application sharing the
+ * API classes. Indexes are never freed: once allocated, a name keeps its index for the lifetime of the JVM.
+ * </p>
+ *
+ * @param <T> type of the property value.
+ * @see jakarta.ws.rs.container.ContainerRequestContext#getProperty(PropertyKey)
+ * @see jakarta.ws.rs.client.ClientRequestContext#getProperty(PropertyKey)
+ * @since 5.0
+ */
+public final class PropertyKey<T> {
+
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private static final ConcurrentMap<String, Integer> INDEXES = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final Class<T> type;
+    private final int index;
+
+    private PropertyKey(final String name, final Class<T> type, final int index) {
+        this.name = name;
+        this.type = type;
+        this.index = index;
+    }
+
+    /**
+     * Create a property key of the given name and value type.
+     * <p>
+     * The first invocation for a name allocates a new index, subsequent invocations create keys sharing that index, even
+     * if they are created for a different type. Keys are meant to be created once and stored, rather than created per
+     * request.
+     * </p>
+     *
+     * @param name name of the property, following the same convention as package names.
+     * @param type type of the property value.
+     * @param <T> type of the property value.
+     * @return property key of the given name.
+     * @throws NullPointerException in case any of the parameters is {@code null}.
+     */
+    public static <T> PropertyKey<T> of(final String name, final Class<T> type) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(type, "type");
+        return new PropertyKey<>(name, type, INDEXES.computeIfAbsent(name, n -> NEXT_INDEX.getAndIncrement()));
+    }
+
+    /**
+     * Get the index allocated for the given property name.
+     *
+     * @param name name of the property.
+     * @return index of the property, or {@code -1} if no key of the given name has been created.
+     * @throws NullPointerException in case the {@code name} parameter is {@code null}.
+     */
+    public static int indexOf(final String name) {
+        final Integer index = INDEXES.get(Objects.requireNonNull(name, "name"));
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Get the number of indexes allocated so far.
+     * <p>
+     * All keys have an {@link #index() index} lower than the returned value, so the value can be used to size a slot
+     * array holding the typed properties of a request. As indexes may still be allocated later on, such an array may
+     * need to grow.
+     * </p>
+     *
+     * @return number of allocated indexes.
+     */
+    public static int count() {
+        return NEXT_INDEX.get();
+    }
+
+    /**
+     * Get the name of the property.
+     *
+     * @return property name, never {@code null}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the type of the property value.
+     *
+     * @return property value type, never {@code null}.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Get the index of this key.
+     * <p>
+     * Indexes are assigned consecutively, starting with {@code 0}, in the order the property names have first been used
+     * to create a key. Keys of the same name have the same index.
+     * </p>
+     *
+     * @return index of this key.
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Cast a property value to the type of this key.
+     *
+     * @param value property value, may be {@code null}.
+     * @return the value cast to the type of this key, {@code null} if the value is {@code null}.
+     * @throws ClassCastException in case the value is not an instance of the type of this key.
+     */
+    public T cast(final Object value) {
+        return type.cast(value);
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyKey{name=" + name + ", type=" + type.getName() + ", index=" + index + "}";
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,9 +16,15 @@
 
 package jakarta.ws.rs.core;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.net.URI;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -213,6 +219,54 @@ public abstract class Response implements AutoCloseable {
      */
     public abstract <T> T readEntity(GenericType<T> entityType, Annotation[] annotations);
 
+    /**
+     * Read the message entity input stream into the supplied buffer.
+     * <p>
+     * The entity bytes are transferred into the buffer starting at its current position, which is advanced by the number
+     * of bytes read. Callers typically size the buffer using {@link #getLength()}, and may pass pooled or
+     * {@link ByteBuffer#allocateDirect(int) direct} buffers to avoid allocating a new array for each response. The entity
+     * is read as raw bytes, without using a {@link MessageBodyReader}. Unlike other {@code readEntity(...)} methods, this
+     * method does not cache the entity for subsequent retrievals via {@link #getEntity()}. Entities that do not fit into a
+     * single buffer can be read in chunks by reading the entity as a {@link ReadableByteChannel}.
+     * </p>
+     * <p>
+     * The default implementation reads the entity {@link #readEntity(Class) as an input stream}. Implementations are
+     * encouraged to override it to transfer the entity into the buffer without intermediate copies.
+     * </p>
+     *
+     * @param buffer the buffer to read the entity into. Must not be {@code null}.
+     * @return number of bytes read into the buffer.
+     * @throws BufferOverflowException if the remaining space of the buffer is not sufficient to hold the entity. The
+     * entity input stream has been consumed in that case.
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+     * @throws ProcessingException if an I/O error occurs while reading the entity.
+     * @throws IllegalStateException if the entity is not backed by an input stream, the response has been {@link #close()
+     * closed} already, or if the entity input stream has been fully consumed already and has not been buffered prior
+     * consuming.
+     * @throws NullPointerException in case the {@code buffer} parameter is {@code null}.
+     * @since 5.0
+     */
+    public int readEntity(final ByteBuffer buffer) {
+        if (buffer.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        final int start = buffer.position();
+        try (InputStream entityStream = readEntity(InputStream.class)) {
+            final ReadableByteChannel channel = Channels.newChannel(entityStream);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    return buffer.position() - start;
+                }
+            }
+            if (entityStream.read() >= 0) {
+                throw new BufferOverflowException();
+            }
+            return buffer.position() - start;
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        }
+    }
+
     /**
      * Check if there is an entity available in the response. The method returns {@code true} if the entity is present,
      * returns {@code false} otherwise.
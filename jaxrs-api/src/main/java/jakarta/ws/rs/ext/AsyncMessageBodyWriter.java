@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.ext;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Contract for a provider that supports the non-blocking conversion of a Java type to a stream.
+ * <p>
+ * An {@code AsyncMessageBodyWriter} writes the entity into a {@link Sink} of {@link ByteBuffer byte buffers} instead of
+ * an {@link OutputStream}. Each write completes once the sink is ready to accept more data, so a writer honoring the
+ * returned completion stages never blocks a thread while a slow peer consumes the entity. This allows the runtime to
+ * interleave the writing of many entities on a small number of threads.
+ * </p>
+ * <p>
+ * An {@code AsyncMessageBodyWriter} is a {@link MessageBodyWriter} and is selected the same way. The runtime uses the
+ * non-blocking {@link #writeTo(Object, Class, Type, Annotation[], MediaType, MultivaluedMap, Sink) writeTo} method
+ * whenever it can, and the synchronous {@link #writeTo(Object, Class, Type, Annotation[], MediaType, MultivaluedMap,
+ * OutputStream) writeTo} method otherwise, e.g. when {@link WriterInterceptor writer interceptors} apply to the entity.
+ * The latter is implemented by default in terms of the former, so implementations only need to implement the
+ * non-blocking method. Conversely, runtimes supporting non-blocking writes adapt synchronous
+ * {@code MessageBodyWriter} implementations by invoking them on a thread that may block.
+ * </p>
+ *
+ * @param <T> the type that can be written.
+ * @see MessageBodyWriter
+ * @since 5.0
+ */
+public interface AsyncMessageBodyWriter<T> extends MessageBodyWriter<T> {
+
+    /**
+     * Non-blocking destination of entity data.
+     */
+    @FunctionalInterface
+    public interface Sink {
+
+        /**
+         * Write the remaining bytes of a buffer.
+         * <p>
+         * The returned stage completes once all remaining bytes of the buffer have been consumed and the sink is ready to
+         * accept more data, or exceptionally with an {@link IOException} if the data cannot be written, e.g. because the
+         * connection has been closed. Until then, the caller MUST NOT modify the buffer or write to the sink again.
+         * </p>
+         *
+         * @param buffer buffer whose remaining bytes are to be written.
+         * @return completion stage of the write.
+         */
+        public CompletionStage<Void> write(ByteBuffer buffer);
+
+        /**
+         * Flush the data written so far to the peer.
+         * <p>
+         * The same rules as for {@link #write(ByteBuffer)} apply to the returned stage. The default implementation returns a
+         * completed stage.
+         * </p>
+         *
+         * @return completion stage of the flush.
+         */
+        public default CompletionStage<Void> flush() {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Write a type to an HTTP message without blocking. The message header map is mutable but any changes must be made
+     * before the first write to the sink since the headers will be flushed prior to writing the message body.
+     * <p>
+     * The method SHOULD return right after initiating the first write. It writes the next buffer only once the stage of
+     * the previous write has completed, and completes the returned stage after the stage of the last write has completed.
+     * The writer must not write to the sink after completing the returned stage.
+     * </p>
+     *
+     * @param t the instance to write.
+     * @param type the class of instance that is to be written.
+     * @param genericType the type of instance to be written. {@link jakarta.ws.rs.core.GenericEntity} provides a way to
+     * specify this information at runtime.
+     * @param annotations an array of the annotations attached to the message entity instance.
+     * @param mediaType the media type of the HTTP entity.
+     * @param httpHeaders a mutable map of the HTTP message headers.
+     * @param sink the sink for the HTTP entity.
+     * @return completion stage completing once the entity has been written, or exceptionally with an {@link IOException}
+     * if an IO error arises or a {@link WebApplicationException} if a specific HTTP error response needs to be produced,
+     * which is only effective prior to the message being committed.
+     */
+    public CompletionStage<Void> writeTo(T t, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders,
+            Sink sink);
+
+    /**
+     * Write a type to an HTTP message, blocking until the entity has been written.
+     * <p>
+     * The default implementation invokes the non-blocking
+     * {@link #writeTo(Object, Class, Type, Annotation[], MediaType, MultivaluedMap, Sink) writeTo} method with a sink
+     * writing synchronously to the supplied output stream, and waits for the returned stage to complete.
+     * </p>
+     *
+     * @param t the instance to write.
+     * @param type the class of instance that is to be written.
+     * @param genericType the type of instance to be written. {@link jakarta.ws.rs.core.GenericEntity} provides a way to
+     * specify this information at runtime.
+     * @param annotations an array of the annotations attached to the message entity instance.
+     * @param mediaType the media type of the HTTP entity.
+     * @param httpHeaders a mutable map of the HTTP message headers.
+     * @param entityStream the {@link OutputStream} for the HTTP entity. The implementation must not close the output
+     * stream.
+     * @throws IOException if an IO error arises.
+     * @throws WebApplicationException if a specific HTTP error response needs to be produced. Only effective if thrown
+     * prior to the message being committed.
+     */
+    @Override
+    public default void writeTo(final T t, final Class<?> type, final Type genericType, final Annotation[] annotations,
+            final MediaType mediaType,
+            final MultivaluedMap<String, Object> httpHeaders,
+            final OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        final Sink sink = new Sink() {
+            @Override
+            public CompletionStage<Void> write(final ByteBuffer buffer) {
+                final CompletableFuture<Void> written = new CompletableFuture<>();
+                try {
+                    if (buffer.hasArray()) {
+                        entityStream.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                        buffer.position(buffer.limit());
+                    } else {
+                        final byte[] chunk = new byte[Math.min(buffer.remaining(), 8192)];
+                        while (buffer.hasRemaining()) {
+                            final int length = Math.min(buffer.remaining(), chunk.length);
+                            buffer.get(chunk, 0, length);
+                            entityStream.write(chunk, 0, length);
+                        }
+                    }
+                    written.complete(null);
+                } catch (final IOException e) {
+                    written.completeExceptionally(e);
+                }
+                return written;
+            }
+
+            @Override
+            public CompletionStage<Void> flush() {
+                final CompletableFuture<Void> flushed = new CompletableFuture<>();
+                try {
+                    entityStream.flush();
+                    flushed.complete(null);
+                } catch (final IOException e) {
+                    flushed.completeExceptionally(e);
+                }
+                return flushed;
+            }
+        };
+
+        try {
+            writeTo(t, type, genericType, annotations, mediaType, httpHeaders, sink).toCompletableFuture().get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
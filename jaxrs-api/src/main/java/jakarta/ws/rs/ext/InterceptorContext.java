@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,6 +21,7 @@ import java.lang.reflect.Type;
 import java.util.Collection;
 
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.PropertyKey;
 
 /**
  * Context shared by message body interceptors that can be used to wrap calls to
@@ -129,6 +130,61 @@ public interface InterceptorContext {
      */
     public void removeProperty(String name);
 
+    /**
+     * Returns the value of the property identified by the given typed key in the current request/response exchange
+     * context, or {@code null} if there is no such property.
+     * <p>
+     * The default implementation looks the property up by the {@link PropertyKey#getName() name} of the key.
+     * Implementations should override this method to store typed properties in a slot array indexed by
+     * {@link PropertyKey#index()}, resolving property names to slots using {@link PropertyKey#indexOf(String)}.
+     * </p>
+     *
+     * @param key key of the property.
+     * @param <T> type of the property value.
+     * @return value of the property, or {@code null} if no property exists for the given key.
+     * @throws NullPointerException in case the {@code key} parameter is {@code null}.
+     * @throws ClassCastException in case the property exists but its value is not an instance of the type of the key.
+     * @see #getProperty(String)
+     * @since 5.0
+     */
+    public default <T> T getProperty(final PropertyKey<T> key) {
+        return key.cast(getProperty(key.getName()));
+    }
+
+    /**
+     * Binds a value to the property identified by the given typed key in the current request/response exchange context.
+     * <p>
+     * If a {@code null} value is passed, the effect is the same as calling the {@link #removeProperty(PropertyKey)}
+     * method. The default implementation binds the value to the {@link PropertyKey#getName() name} of the key.
+     * </p>
+     *
+     * @param key key of the property.
+     * @param value value of the property.
+     * @param <T> type of the property value.
+     * @throws NullPointerException in case the {@code key} parameter is {@code null}.
+     * @throws ClassCastException in case the value is not an instance of the type of the key.
+     * @see #setProperty(String, Object)
+     * @since 5.0
+     */
+    public default <T> void setProperty(final PropertyKey<T> key, final T value) {
+        setProperty(key.getName(), key.cast(value));
+    }
+
+    /**
+     * Removes the property identified by the given typed key from the current request/response exchange context.
+     * <p>
+     * The default implementation removes the property by the {@link PropertyKey#getName() name} of the key.
+     * </p>
+     *
+     * @param key key of the property to be removed.
+     * @throws NullPointerException in case the {@code key} parameter is {@code null}.
+     * @see #removeProperty(String)
+     * @since 5.0
+     */
+    public default void removeProperty(final PropertyKey<?> key) {
+        removeProperty(key.getName());
+    }
+
     /**
      * Get an array of the annotations formally declared on the artifact that initiated the intercepted entity provider
      * invocation.
@@ -23,6 +23,7 @@ import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.SeBootstrap.Configuration;
 import jakarta.ws.rs.SeBootstrap.Configuration.SSLClientAuthentication;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpVersion;
 import jakarta.ws.rs.ext.RuntimeDelegate;
 
 /**
@@ -214,6 +215,63 @@ public final class SeBootstrapTest {
         assertThat(actualSSLClientAuthenticationValue, is(sameInstance(someSSLClientAuthenticationValue)));
     }
 
+    /**
+     * Assert that {@code Configuration.Builder}'s HTTP/2 convenience methods delegate to its generic
+     * {@code property(name, value)} method using the <em>right</em> property name.
+     *
+     * @since 5.0
+     */
+    @Test
+    public void shouldPushHttpVersionPropertiesIntoConfigurationBuilder() {
+        // given
+        final HttpVersion someHttpVersionValue = HttpVersion.HTTP_2_PRIOR_KNOWLEDGE;
+        final int someMaxConcurrentStreamsValue = mockInt();
+        final int someInitialWindowSizeValue = mockInt();
+        final SeBootstrap.Configuration.Builder configurationBuilder = spy(SeBootstrap.Configuration.Builder.class);
+
+        // when
+        configurationBuilder.httpVersion(someHttpVersionValue);
+        configurationBuilder.http2MaxConcurrentStreams(someMaxConcurrentStreamsValue);
+        configurationBuilder.http2InitialWindowSize(someInitialWindowSizeValue);
+
+        // then
+        verify(configurationBuilder).property(SeBootstrap.Configuration.HTTP_VERSION, someHttpVersionValue);
+        verify(configurationBuilder).property(SeBootstrap.Configuration.HTTP2_MAX_CONCURRENT_STREAMS,
+                someMaxConcurrentStreamsValue);
+        verify(configurationBuilder).property(SeBootstrap.Configuration.HTTP2_INITIAL_WINDOW_SIZE,
+                someInitialWindowSizeValue);
+    }
+
+    /**
+     * Assert that {@code Configuration}'s HTTP/2 convenience methods delegate to its generic {@code property(name)} method
+     * using the <em>right</em> property name.
+     *
+     * @since 5.0
+     */
+    @Test
+    public void shouldPullHttpVersionPropertiesFromConfiguration() {
+        // given
+        final HttpVersion someHttpVersionValue = HttpVersion.HTTP_2;
+        final Integer someMaxConcurrentStreamsValue = mockInt();
+        final Integer someInitialWindowSizeValue = mockInt();
+        final SeBootstrap.Configuration configuration = spy(SeBootstrap.Configuration.class);
+        given(configuration.property(SeBootstrap.Configuration.HTTP_VERSION)).willReturn(someHttpVersionValue);
+        given(configuration.property(SeBootstrap.Configuration.HTTP2_MAX_CONCURRENT_STREAMS))
+                .willReturn(someMaxConcurrentStreamsValue);
+        given(configuration.property(SeBootstrap.Configuration.HTTP2_INITIAL_WINDOW_SIZE))
+                .willReturn(someInitialWindowSizeValue);
+
+        // when
+        final HttpVersion actualHttpVersionValue = configuration.httpVersion();
+        final Integer actualMaxConcurrentStreamsValue = configuration.http2MaxConcurrentStreams();
+        final Integer actualInitialWindowSizeValue = configuration.http2InitialWindowSize();
+
+        // then
+        assertThat(actualHttpVersionValue, is(sameInstance(someHttpVersionValue)));
+        assertThat(actualMaxConcurrentStreamsValue, is(someMaxConcurrentStreamsValue));
+        assertThat(actualInitialWindowSizeValue, is(someInitialWindowSizeValue));
+    }
+
     /**
      * Assert that a default {@code Configuration} is used when not passed to the
      * {@code SeBootstrap.start} method.
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link BatchPolicy}.
+ *
+ * @since 5.0
+ */
+public class BatchPolicyTest {
+
+    @Test
+    public void shouldDefaultToNoTimeoutAndUnboundedConcurrency() {
+        BatchPolicy policy = BatchPolicy.collectAll();
+
+        assertThat(policy.getMode(), is(BatchPolicy.Mode.COLLECT_ALL));
+        assertThat(policy.getTimeout(TimeUnit.MILLISECONDS), is(0L));
+        assertThat(policy.getMaxConcurrency(), is(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldReturnNewInstanceWhenRefined() {
+        BatchPolicy policy = BatchPolicy.cancelOnFailure();
+        BatchPolicy refined = policy.withTimeout(2, TimeUnit.SECONDS).withMaxConcurrency(8);
+
+        assertThat(refined, not(sameInstance(policy)));
+        assertThat(policy.getTimeout(TimeUnit.SECONDS), is(0L));
+        assertThat(refined.getMode(), is(BatchPolicy.Mode.CANCEL_ON_FAILURE));
+        assertThat(refined.getTimeout(TimeUnit.MILLISECONDS), is(2000L));
+        assertThat(refined.getMaxConcurrency(), is(8));
+    }
+
+    @Test
+    public void shouldBeEqualsForSameFieldValues() {
+        BatchPolicy policy = BatchPolicy.collectAll().withTimeout(1, TimeUnit.SECONDS);
+        BatchPolicy policyWithSameValues = BatchPolicy.collectAll().withTimeout(1000, TimeUnit.MILLISECONDS);
+
+        assertThat(policy, equalTo(policyWithSameValues));
+        assertThat(policy.hashCode(), equalTo(policyWithSameValues.hashCode()));
+        assertThat(policy, not(equalTo(BatchPolicy.cancelOnFailure().withTimeout(1, TimeUnit.SECONDS))));
+    }
+
+    @Test
+    public void shouldRejectNegativeTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> BatchPolicy.collectAll().withTimeout(-1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldRejectNonPositiveConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> BatchPolicy.collectAll().withMaxConcurrency(0));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link HostResolver}.
+ *
+ * @since 5.0
+ */
+public class HostResolverTest {
+
+    private static final InetAddress FIRST = address(10, 0, 0, 1);
+    private static final InetAddress SECOND = address(10, 0, 0, 2);
+
+    @Test
+    public void shouldResolveFromHostsMapIgnoringCase() throws Exception {
+        HostResolver resolver = HostResolver.ofHosts(Collections.singletonMap("Orders.example.com", Arrays.asList(FIRST, SECOND)));
+
+        HostResolver.Resolution resolution = resolver.resolve("orders.EXAMPLE.com").toCompletableFuture().get();
+
+        assertThat(resolution.getAddresses(), is(Arrays.asList(FIRST, SECOND)));
+    }
+
+    @Test
+    public void shouldFailForHostMissingFromHostsMap() {
+        HostResolver resolver = HostResolver.ofHosts(Collections.singletonMap("orders.example.com", Collections.singletonList(FIRST)));
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> resolver.resolve("stock.example.com").toCompletableFuture().get());
+
+        assertThat(e.getCause(), instanceOf(UnknownHostException.class));
+    }
+
+    @Test
+    public void shouldCacheResolutionForItsTimeToLive() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        HostResolver resolver = HostResolver.caching(host -> {
+            lookups.incrementAndGet();
+            return CompletableFuture.completedFuture(HostResolver.Resolution.of(Collections.singletonList(FIRST), Duration.ofHours(1)));
+        });
+
+        resolver.resolve("orders.example.com").toCompletableFuture().get();
+        resolver.resolve("ORDERS.example.com").toCompletableFuture().get();
+
+        assertThat(lookups.get(), is(1));
+    }
+
+    @Test
+    public void shouldNotCacheBeyondMaximumTimeToLive() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        HostResolver resolver = HostResolver.caching(host -> {
+            lookups.incrementAndGet();
+            return CompletableFuture.completedFuture(HostResolver.Resolution.of(Collections.singletonList(FIRST), Duration.ofHours(1)));
+        }, Duration.ZERO);
+
+        resolver.resolve("orders.example.com").toCompletableFuture().get();
+        resolver.resolve("orders.example.com").toCompletableFuture().get();
+
+        assertThat(lookups.get(), is(2));
+    }
+
+    @Test
+    public void shouldCoalesceConcurrentResolutions() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        CompletableFuture<HostResolver.Resolution> pending = new CompletableFuture<>();
+        HostResolver resolver = HostResolver.caching(host -> {
+            lookups.incrementAndGet();
+            return pending;
+        });
+
+        CompletableFuture<HostResolver.Resolution> first = resolver.resolve("orders.example.com").toCompletableFuture();
+        CompletableFuture<HostResolver.Resolution> second = resolver.resolve("orders.example.com").toCompletableFuture();
+        pending.complete(HostResolver.Resolution.of(Collections.singletonList(FIRST), Duration.ZERO));
+
+        assertThat(first.get().getAddresses(), is(Collections.singletonList(FIRST)));
+        assertThat(second.get().getAddresses(), is(Collections.singletonList(FIRST)));
+        assertThat(lookups.get(), is(1));
+    }
+
+    @Test
+    public void shouldNotCacheFailedResolutions() {
+        AtomicInteger lookups = new AtomicInteger();
+        HostResolver resolver = HostResolver.caching(host -> {
+            lookups.incrementAndGet();
+            CompletableFuture<HostResolver.Resolution> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new UnknownHostException(host));
+            return failed;
+        });
+
+        assertThrows(ExecutionException.class, () -> resolver.resolve("orders.example.com").toCompletableFuture().get());
+        assertThrows(ExecutionException.class, () -> resolver.resolve("orders.example.com").toCompletableFuture().get());
+
+        assertThat(lookups.get(), is(2));
+    }
+
+    @Test
+    public void shouldRejectInvalidResolution() {
+        List<InetAddress> addresses = Collections.singletonList(FIRST);
+
+        assertThrows(IllegalArgumentException.class, () -> HostResolver.Resolution.of(Collections.emptyList(), Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> HostResolver.Resolution.of(addresses, Duration.ofSeconds(-1)));
+        assertThrows(NullPointerException.class, () -> HostResolver.Resolution.of(addresses, null));
+        assertThrows(NullPointerException.class, () -> HostResolver.Resolution.of(Collections.singletonList(null), Duration.ZERO));
+    }
+
+    private static InetAddress address(int... bytes) {
+        try {
+            byte[] address = new byte[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                address[i] = (byte) bytes[i];
+            }
+            return InetAddress.getByAddress(address);
+        } catch (UnknownHostException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.ws.rs.container;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link AsyncResponse#resumeWith(java.util.concurrent.CompletionStage)}.
+ *
+ * @since 5.0
+ */
+public class AsyncResponseTest {
+
+    @Test
+    public void shouldResumeWithResultOfStage() {
+        RecordingAsyncResponse ar = new RecordingAsyncResponse();
+        CompletableFuture<String> stage = new CompletableFuture<>();
+
+        CompletableFuture<Boolean> resumed = ar.resumeWith(stage).toCompletableFuture();
+        assertThat(resumed.isDone(), is(false));
+
+        stage.complete("Hello async world!");
+
+        assertThat(resumed.join(), is(true));
+        assertThat(ar.response, is("Hello async world!"));
+    }
+
+    @Test
+    public void shouldResumeWithUnwrappedFailureOfStage() {
+        RecordingAsyncResponse ar = new RecordingAsyncResponse();
+        IOException failure = new IOException("connection reset");
+        CompletableFuture<String> stage = CompletableFuture.<String> supplyAsync(() -> {
+            throw new CompletionException(failure);
+        });
+
+        assertThat(ar.resumeWith(stage).toCompletableFuture().join(), is(true));
+        assertThat(ar.failure, is(sameInstance(failure)));
+    }
+
+    @Test
+    public void shouldIgnoreOutcomeOnceNoLongerSuspended() {
+        RecordingAsyncResponse ar = new RecordingAsyncResponse();
+        ar.cancel();
+
+        assertThat(ar.resumeWith(CompletableFuture.completedFuture("late")).toCompletableFuture().join(), is(false));
+        assertThat(ar.response, is(nullValue()));
+    }
+
+    @Test
+    public void shouldCloseResponseOnceNoLongerSuspended() {
+        RecordingAsyncResponse ar = new RecordingAsyncResponse();
+        Response response = mock(Response.class);
+        ar.cancel();
+
+        assertThat(ar.resumeWith(CompletableFuture.completedFuture(response)).toCompletableFuture().join(), is(false));
+        verify(response).close();
+    }
+
+    /**
+     * Records the outcome the response has been resumed with.
+     */
+    private static class RecordingAsyncResponse implements AsyncResponse {
+
+        private boolean suspended = true;
+        private Object response;
+        private Throwable failure;
+
+        @Override
+        public boolean resume(Object response) {
+            if (!suspended) {
+                return false;
+            }
+            suspended = false;
+            this.response = response;
+            return true;
+        }
+
+        @Override
+        public boolean resume(Throwable response) {
+            if (!suspended) {
+                return false;
+            }
+            suspended = false;
+            this.failure = response;
+            return true;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!suspended) {
+                return false;
+            }
+            suspended = false;
+            return true;
+        }
+
+        @Override
+        public boolean cancel(int retryAfter) {
+            return cancel();
+        }
+
+        @Override
+        public boolean cancel(Date retryAfter) {
+            return cancel();
+        }
+
+        @Override
+        public boolean isSuspended() {
+            return suspended;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return !suspended && response == null && failure == null;
+        }
+
+        @Override
+        public boolean isDone() {
+            return !suspended;
+        }
+
+        @Override
+        public boolean setTimeout(long time, TimeUnit unit) {
+            return suspended;
+        }
+
+        @Override
+        public void setTimeoutHandler(TimeoutHandler handler) {
+        }
+
+        @Override
+        public Collection<Class<?>> register(Class<?> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<Class<?>, Collection<Class<?>>> register(Class<?> callback, Class<?>... callbacks) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<Class<?>> register(Object callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<Class<?>, Collection<Class<?>>> register(Object callback, Object... callbacks) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.ws.rs.container;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.FutureTask;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the propagation helpers of {@link RequestCancellation}.
+ *
+ * @since 5.0
+ */
+public class RequestCancellationTest {
+
+    @Test
+    public void shouldCancelStageOnCancellation() {
+        Signal cancellation = new Signal();
+        CompletableFuture<String> stage = new CompletableFuture<>();
+
+        assertThat(cancellation.propagateTo(stage), is(sameInstance(stage)));
+        assertThat(stage.isCancelled(), is(false));
+
+        cancellation.cancel();
+
+        assertThat(stage.isCancelled(), is(true));
+    }
+
+    @Test
+    public void shouldCancelFutureOnCancellation() {
+        Signal cancellation = new Signal();
+        FutureTask<String> future = new FutureTask<>(() -> "result");
+
+        assertThat(cancellation.propagateToFuture(future), is(sameInstance(future)));
+        cancellation.cancel();
+
+        assertThat(future.isCancelled(), is(true));
+    }
+
+    @Test
+    public void shouldNotAffectCompletedStage() {
+        Signal cancellation = new Signal();
+        CompletableFuture<String> stage = cancellation.propagateTo(CompletableFuture.completedFuture("result"));
+
+        cancellation.cancel();
+
+        assertThat(stage.isCancelled(), is(false));
+        assertThat(stage.join(), is("result"));
+    }
+
+    @Test
+    public void shouldCancelImmediatelyWhenAlreadyCancelled() {
+        Signal cancellation = new Signal();
+        cancellation.cancel();
+
+        assertThat(cancellation.propagateTo(new CompletableFuture<String>()).isCancelled(), is(true));
+    }
+
+    /**
+     * Cancellation signal fired by the test.
+     */
+    private static class Signal implements RequestCancellation {
+
+        private final CompletableFuture<Void> cancelled = new CompletableFuture<>();
+
+        void cancel() {
+            cancelled.complete(null);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled.isDone();
+        }
+
+        @Override
+        public CompletionStage<Void> onCancel() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.ws.rs.container;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.Encoded;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the default {@link ResourceInfo#getResourceMetadata()} implementation.
+ *
+ * @since 5.0
+ */
+public class ResourceInfoTest {
+
+    @Test
+    public void shouldResolveMetadataOfResourceMethod() throws NoSuchMethodException {
+        ResourceMetadata metadata = resourceInfo("get", String.class).getResourceMetadata();
+
+        assertThat(metadata.getHttpMethod(), is("GET"));
+        assertThat(metadata.getPathTemplate(), is("/orders/{id: [0-9]+/?}"));
+        assertThat(metadata.getProduces().isEmpty(), is(true));
+        assertThat(metadata.getConsumes().isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldMergeClassAndMethodAnnotations() throws NoSuchMethodException {
+        ResourceMetadata metadata = resourceInfo("get", String.class).getResourceMetadata();
+
+        assertThat(metadata.isAnnotationPresent(GET.class), is(true));
+        assertThat(metadata.isAnnotationPresent(Encoded.class), is(true));
+        assertThat(metadata.getAnnotation(Path.class).value(), is("{id: [0-9]+/?}"));
+        assertThat(metadata.getAnnotations().size(), is(3));
+    }
+
+    @Test
+    public void shouldResolveSubResourceLocator() throws NoSuchMethodException {
+        ResourceMetadata metadata = resourceInfo("items").getResourceMetadata();
+
+        assertThat(metadata.getHttpMethod(), is(nullValue()));
+        assertThat(metadata.getPathTemplate(), is("/orders/items"));
+    }
+
+    @Test
+    public void shouldReturnSameMetadataForSameMethod() throws NoSuchMethodException {
+        assertThat(resourceInfo("get", String.class).getResourceMetadata(),
+                is(sameInstance(resourceInfo("get", String.class).getResourceMetadata())));
+    }
+
+    @Test
+    public void shouldReturnNullWhenNotMatched() {
+        assertThat(resourceInfo((Class<?>) null, (Method) null).getResourceMetadata(), is(nullValue()));
+    }
+
+    private static ResourceInfo resourceInfo(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return resourceInfo(OrderResource.class, OrderResource.class.getMethod(methodName, parameterTypes));
+    }
+
+    private static ResourceInfo resourceInfo(Class<?> resourceClass, Method resourceMethod) {
+        return new ResourceInfo() {
+            @Override
+            public Method getResourceMethod() {
+                return resourceMethod;
+            }
+
+            @Override
+            public Class<?> getResourceClass() {
+                return resourceClass;
+            }
+        };
+    }
+
+    @Path("/orders/")
+    @Encoded
+    public static class OrderResource {
+
+        @GET
+        @Path("{id: [0-9]+/?}")
+        public String get(@PathParam("id") String id) {
+            return id;
+        }
+
+        @Path("/items")
+        public Object items() {
+            return this;
+        }
+    }
+}
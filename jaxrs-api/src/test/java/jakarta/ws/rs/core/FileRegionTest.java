@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import jakarta.ws.rs.client.Entity;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link FileRegion} and the file and buffer factory methods of {@link Entity}.
+ *
+ * @since 5.0
+ */
+public class FileRegionTest {
+
+    private static final Path PATH = Paths.get("artifact.bin");
+
+    @Test
+    public void shouldBeEqualsForSameFieldValues() {
+        FileRegion region = new FileRegion(PATH, 10, 20);
+        FileRegion regionWithSameValues = new FileRegion(PATH, 10, 20);
+
+        assertThat(region, equalTo(regionWithSameValues));
+        assertThat(region.hashCode(), equalTo(regionWithSameValues.hashCode()));
+        assertThat(region, not(equalTo(new FileRegion(PATH, 10, 21))));
+        assertThat(region, not(equalTo(null)));
+    }
+
+    @Test
+    public void shouldRejectInvalidRegion() {
+        assertThrows(NullPointerException.class, () -> new FileRegion(null, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FileRegion(PATH, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FileRegion(PATH, 0, -1));
+    }
+
+    @Test
+    public void shouldCreateOctetStreamFileRegionEntity() {
+        Entity<FileRegion> entity = Entity.file(PATH, 0, 1024);
+
+        assertThat(entity.getMediaType(), is(MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        assertThat(entity.getEntity(), is(new FileRegion(PATH, 0, 1024)));
+    }
+
+    @Test
+    public void shouldCopyBufferArrayOfBuffersEntity() {
+        ByteBuffer[] buffers = {ByteBuffer.allocate(1), ByteBuffer.allocate(2)};
+        Entity<ByteBuffer[]> entity = Entity.buffers(buffers);
+        buffers[0] = null;
+
+        assertThat(entity.getEntity().length, is(2));
+        assertThat(entity.getEntity()[0].capacity(), is(1));
+        assertThrows(NullPointerException.class, () -> Entity.buffers(ByteBuffer.allocate(1), null));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.ws.rs.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link PropertyKey}.
+ *
+ * @since 5.0
+ */
+public class PropertyKeyTest {
+
+    @Test
+    public void shouldAllocateConsecutiveIndexes() {
+        PropertyKey<String> first = PropertyKey.of("jakarta.ws.rs.test.first", String.class);
+        PropertyKey<Integer> second = PropertyKey.of("jakarta.ws.rs.test.second", Integer.class);
+
+        assertThat(second.index(), is(first.index() + 1));
+        assertThat(PropertyKey.count() > second.index(), is(true));
+    }
+
+    @Test
+    public void shouldShareIndexForSameName() {
+        PropertyKey<String> first = PropertyKey.of("jakarta.ws.rs.test.name", String.class);
+        PropertyKey<String> second = PropertyKey.of("jakarta.ws.rs.test.name", String.class);
+
+        assertThat(second.index(), is(first.index()));
+        assertThat(PropertyKey.indexOf("jakarta.ws.rs.test.name"), is(first.index()));
+        assertThat(PropertyKey.indexOf("jakarta.ws.rs.test.unknown"), is(-1));
+    }
+
+    @Test
+    public void shouldShareIndexForSameNameWithDifferentType() {
+        PropertyKey<String> first = PropertyKey.of("jakarta.ws.rs.test.type", String.class);
+        PropertyKey<Integer> second = PropertyKey.of("jakarta.ws.rs.test.type", Integer.class);
+
+        assertThat(second.index(), is(first.index()));
+        assertThat(second.getType() == Integer.class, is(true));
+    }
+
+    @Test
+    public void shouldCastValueToKeyType() {
+        PropertyKey<Number> key = PropertyKey.of("jakarta.ws.rs.test.number", Number.class);
+
+        assertThat(key.cast(42), is((Number) 42));
+        assertThat(key.cast(null), is(nullValue()));
+        assertThrows(ClassCastException.class, () -> key.cast("42"));
+    }
+
+    @Test
+    public void shouldRejectNullNameAndType() {
+        assertThrows(NullPointerException.class, () -> PropertyKey.of(null, String.class));
+        assertThrows(NullPointerException.class, () -> PropertyKey.of("jakarta.ws.rs.test.null", null));
+    }
+}
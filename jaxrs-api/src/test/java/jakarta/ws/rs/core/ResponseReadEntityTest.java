@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link Response#readEntity(ByteBuffer)}.
+ *
+ * @since 5.0
+ */
+public class ResponseReadEntityTest {
+
+    private static Response responseWithEntity(final byte[] entity) {
+        final Response response = mock(Response.class, CALLS_REAL_METHODS);
+        doReturn(new ByteArrayInputStream(entity)).when(response).readEntity(InputStream.class);
+        return response;
+    }
+
+    @Test
+    public void shouldReadEntityIntoBufferAtItsPosition() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+        buffer.put((byte) 9);
+
+        final int read = responseWithEntity(new byte[] {1, 2, 3}).readEntity(buffer);
+
+        assertThat(read, is(3));
+        assertThat(buffer.position(), is(4));
+        assertThat(buffer.get(3), is((byte) 3));
+    }
+
+    @Test
+    public void shouldReadEntityFillingBufferExactly() {
+        final ByteBuffer buffer = ByteBuffer.allocate(3);
+
+        assertThat(responseWithEntity(new byte[] {1, 2, 3}).readEntity(buffer), is(3));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void shouldThrowWhenEntityDoesNotFit() {
+        final Response response = responseWithEntity(new byte[] {1, 2, 3});
+
+        assertThrows(BufferOverflowException.class, () -> response.readEntity(ByteBuffer.allocate(2)));
+    }
+
+    @Test
+    public void shouldRejectReadOnlyBuffer() {
+        final Response response = responseWithEntity(new byte[0]);
+
+        assertThrows(ReadOnlyBufferException.class, () -> response.readEntity(ByteBuffer.allocate(1).asReadOnlyBuffer()));
+    }
+}
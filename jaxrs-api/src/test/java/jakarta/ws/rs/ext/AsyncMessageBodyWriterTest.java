@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.ext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the synchronous adapter of {@link AsyncMessageBodyWriter}.
+ *
+ * @since 5.0
+ */
+public class AsyncMessageBodyWriterTest {
+
+    @Test
+    public void shouldWriteHeapAndDirectBuffersToOutputStream() throws IOException {
+        AsyncMessageBodyWriter<String> writer = new ChunkedWriter();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.writeTo("Hello world", String.class, String.class, new Annotation[0], MediaType.TEXT_PLAIN_TYPE, null, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8.name()), is("Hello world"));
+    }
+
+    @Test
+    public void shouldRethrowIOExceptionOfFailedStage() {
+        IOException failure = new IOException("connection reset");
+        AsyncMessageBodyWriter<String> writer = new ChunkedWriter() {
+            @Override
+            public CompletionStage<Void> writeTo(String t, Class<?> type, Type genericType, Annotation[] annotations,
+                    MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, Sink sink) {
+                CompletableFuture<Void> failed = new CompletableFuture<>();
+                failed.completeExceptionally(failure);
+                return failed;
+            }
+        };
+
+        IOException thrown = assertThrows(IOException.class, () -> writer.writeTo("Hello", String.class, String.class,
+                new Annotation[0], MediaType.TEXT_PLAIN_TYPE, null, new ByteArrayOutputStream()));
+
+        assertThat(thrown, is(sameInstance(failure)));
+    }
+
+    /**
+     * Writes the first half of the entity from a heap buffer and the second half from a direct buffer.
+     */
+    private static class ChunkedWriter implements AsyncMessageBodyWriter<String> {
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type == String.class;
+        }
+
+        @Override
+        public CompletionStage<Void> writeTo(String t, Class<?> type, Type genericType, Annotation[] annotations,
+                MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, Sink sink) {
+            byte[] bytes = t.getBytes(StandardCharsets.UTF_8);
+            int half = bytes.length / 2;
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length - half);
+            direct.put(bytes, half, bytes.length - half).flip();
+            return sink.write(ByteBuffer.wrap(bytes, 0, half))
+                    .thenCompose(ignored -> sink.write(direct))
+                    .thenCompose(ignored -> sink.flush());
+        }
+    }
+}